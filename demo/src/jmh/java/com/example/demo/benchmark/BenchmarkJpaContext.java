@@ -0,0 +1,81 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.entity.User;
+import com.example.demo.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * DB를 쓰는 벤치마크용 최소 Spring 컨텍스트 (DataSource + JPA + 리포지토리만, 웹 / 스케줄러 / 캐시 없음)
+ *
+ * 기본 대상은 H2 인메모리(MySQL 모드)이고, 실제 실행 계획을 보려면 MySQL을 지정한다.
+ * ./gradlew jmh -PjmhIncludes=... -PbenchDbUrl='jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true' -PbenchDbUser=root -PbenchDbPassword=...
+ *
+ * 스키마는 hbm2ddl update로 엔티티 정의(인덱스 포함)를 따르므로, MySQL에 한 번 적재한 데이터는 다음 실행에서 재사용된다.
+ * 2차 캐시 / 쿼리 캐시는 끄고 매번 DB까지 가는 비용을 잰다.
+ */
+@Configuration
+@EnableJpaRepositories(basePackageClasses = UserRepository.class)
+@EnableTransactionManagement
+public class BenchmarkJpaContext {
+
+    static final String URL = System.getProperty("bench.db.url", "jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+
+    public static AnnotationConfigApplicationContext start() {
+        return new AnnotationConfigApplicationContext(BenchmarkJpaContext.class);
+    }
+
+    public static boolean isH2() {
+        return URL.startsWith("jdbc:h2:");
+    }
+
+    public static TransactionTemplate transactionTemplate(AnnotationConfigApplicationContext context, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource dataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(URL);
+        dataSource.setUsername(System.getProperty("bench.db.username", "sa"));
+        dataSource.setPassword(System.getProperty("bench.db.password", ""));
+        dataSource.setMaximumPoolSize(8);
+        return dataSource;
+    }
+
+    @Bean
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan(User.class.getPackageName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "update",
+                "jakarta.persistence.sharedCache.mode", "NONE",
+                "hibernate.cache.use_second_level_cache", "false",
+                "hibernate.cache.use_query_cache", "false",
+                "hibernate.jdbc.batch_size", "100",
+                "hibernate.order_inserts", "true"));
+        return factory;
+    }
+
+    @Bean
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
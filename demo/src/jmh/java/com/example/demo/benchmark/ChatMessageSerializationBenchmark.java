@@ -0,0 +1,54 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.controller.ChatController.ChatMessage;
+import com.example.demo.controller.ChatController.MessageType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket 채팅 메시지(ChatMessage) JSON 직렬화/역직렬화 비용
+ * Spring Boot 기본 설정과 같은 ObjectMapper(JavaTimeModule, ISO 날짜 문자열)를 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatMessageSerializationBenchmark {
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private ChatMessage message;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(ChatMessage.class);
+        reader = objectMapper.readerFor(ChatMessage.class);
+
+        message = new ChatMessage(MessageType.CHAT, "안녕하세요! 오늘 경매 몇 시에 시작하나요?", "john_doe");
+        message.setTimestamp(LocalDateTime.of(2025, 1, 1, 10, 0, 0));
+        json = writer.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public ChatMessage deserialize() throws Exception {
+        return reader.readValue(json);
+    }
+}
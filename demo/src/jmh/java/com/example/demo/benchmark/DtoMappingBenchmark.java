@@ -0,0 +1,59 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.UserRequestDto;
+import com.example.demo.dto.UserResponseDto;
+import com.example.demo.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 DTO <-> 엔티티 변환과 User.getAuthorities() 할당 비용
+ * -prof gc 옵션으로 실행하면 호출당 할당 바이트(gc.alloc.rate.norm)도 확인할 수 있다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private User user;
+    private UserRequestDto request;
+
+    @Setup
+    public void setUp() {
+        user = User.builder()
+                .id(1L)
+                .username("john_doe")
+                .email("john@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0")
+                .role(User.Role.USER)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 10, 0, 0))
+                .updatedAt(LocalDateTime.of(2025, 1, 1, 10, 0, 0))
+                .build();
+        request = new UserRequestDto("john_doe", "john@example.com", "password123", User.Role.USER);
+    }
+
+    @Benchmark
+    public UserResponseDto userResponseFromEntity() {
+        return UserResponseDto.fromEntity(user);
+    }
+
+    @Benchmark
+    public User userRequestToEntity() {
+        return request.toEntity();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> userAuthorities() {
+        return user.getAuthorities();
+    }
+}
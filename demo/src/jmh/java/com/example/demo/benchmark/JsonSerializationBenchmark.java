@@ -0,0 +1,101 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.FastLocalDateTimeSerializer;
+import com.example.demo.config.HotTypeCodecs;
+import com.example.demo.controller.ChatController.ChatMessage;
+import com.example.demo.controller.ChatController.MessageType;
+import com.example.demo.dto.UserResponseDto;
+import com.example.demo.entity.User;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * /api/users/paginated 응답(Page<UserResponseDto> 20건)과 /topic/public 채팅 메시지의 JSON 처리량
+ * default: Spring Boot 기본 ObjectMapper + 호출마다 objectMapper.writer() (기본 컨버터와 같은 방식)
+ * tuned: JacksonConfig와 같은 구성 (Blackbird + FastLocalDateTimeSerializer + HotTypeCodecs 캐시 writer/reader)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"default", "tuned"})
+    public String codec;
+
+    private ObjectMapper objectMapper;
+    private HotTypeCodecs codecs;
+    private Page<UserResponseDto> usersPage;
+    private JavaType usersPageType;
+    private ChatMessage chatMessage;
+    private byte[] chatJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Spring Boot 기본값과 같이 날짜는 ISO 문자열로
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("tuned".equals(codec)) {
+            builder.modulesToInstall(new BlackbirdModule())
+                    .serializerByType(LocalDateTime.class, FastLocalDateTimeSerializer.INSTANCE);
+        }
+        objectMapper = builder.build();
+        codecs = new HotTypeCodecs(objectMapper, Set.of(UserResponseDto.class, ChatMessage.class));
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 0, 0, 123_456_000);
+        List<UserResponseDto> users = IntStream.range(0, 20)
+                .mapToObj(i -> new UserResponseDto((long) i, "user_" + i, "user_" + i + "@example.com",
+                        User.Role.USER, base.plusMinutes(i), base.plusHours(i)))
+                .toList();
+        usersPage = new PageImpl<>(users, PageRequest.of(0, 20, Sort.by("id")), 1_000);
+        // 컨버터가 보는 키와 같게 선언 타입(Page<UserResponseDto>)을 런타임 클래스로 특수화
+        usersPageType = objectMapper.getTypeFactory().constructSpecializedType(
+                objectMapper.getTypeFactory().constructParametricType(Page.class, UserResponseDto.class), PageImpl.class);
+
+        chatMessage = new ChatMessage(MessageType.CHAT, "안녕하세요! 오늘 경매 몇 시에 시작하나요?", "john_doe");
+        chatMessage.setTimestamp(base);
+        chatJson = objectMapper.writeValueAsBytes(chatMessage);
+    }
+
+    @Benchmark
+    public byte[] usersPage() throws Exception {
+        return writer(usersPageType).writeValueAsBytes(usersPage);
+    }
+
+    @Benchmark
+    public byte[] chatMessageWrite() throws Exception {
+        return writer(objectMapper.constructType(ChatMessage.class)).writeValueAsBytes(chatMessage);
+    }
+
+    @Benchmark
+    public ChatMessage chatMessageRead() throws Exception {
+        ObjectReader reader = "tuned".equals(codec) ? codecs.readerFor(ChatMessage.class) : objectMapper.readerFor(ChatMessage.class);
+        return reader.readValue(chatJson);
+    }
+
+    private ObjectWriter writer(JavaType type) {
+        return "tuned".equals(codec) ? codecs.writerFor(type) : objectMapper.writer();
+    }
+}
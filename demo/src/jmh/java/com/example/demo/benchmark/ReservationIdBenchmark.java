@@ -0,0 +1,40 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.entity.TimeOrderedUuidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 영화 예매 ID 생성 비용: 시간순 UUID(v7) vs 랜덤 UUID(v4)
+ * v7은 밀리초 내 순번을 CAS로 발급하므로 여러 스레드에서의 경합도 함께 확인한다
+ * ID 생성 비용만 재며, 키 형식에 따른 INSERT 처리량은 ReservationInsertBenchmark에서 잰다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationIdBenchmark {
+
+    @Benchmark
+    public UUID timeOrdered() {
+        return TimeOrderedUuidGenerator.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID timeOrderedContended() {
+        return TimeOrderedUuidGenerator.next();
+    }
+
+    @Benchmark
+    public UUID random() {
+        return UUID.randomUUID();
+    }
+}
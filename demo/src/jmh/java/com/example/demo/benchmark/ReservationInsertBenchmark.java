@@ -0,0 +1,125 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.entity.TimeOrderedUuidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예매 테이블 INSERT 처리량: 기본 키 형식별 (초당 행 수)
+ * - v7_binary: 시간순 UUID(v7) BINARY(16) (현재 형식, 클러스터드 인덱스 끝에 추가)
+ * - v4_binary: 랜덤 UUID(v4) BINARY(16) (크기는 같고 순서만 랜덤)
+ * - v4_char36: 랜덤 UUID(v4) 문자열 (이전 형식, 보조 인덱스도 36바이트 키를 달고 다님)
+ *
+ * viewing_reservations와 같은 모양의 전용 테이블을 형식마다 새로 만들고, preloadRows만큼 채운 뒤
+ * 1,000행 배치(트랜잭션 1개)씩 계속 추가한다. 테이블이 버퍼 풀보다 커질수록 랜덤 키의 페이지 분할 비용이 드러나므로 MySQL로 재야 의미가 있다.
+ * ./gradlew jmh -PjmhIncludes=ReservationInsertBenchmark -PbenchDbUrl='jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true' -PbenchDbUser=root -PbenchDbPassword=...
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReservationInsertBenchmark {
+
+    private static final int BATCH = 1_000;
+    private static final String[] STATUSES = {"PENDING", "CONFIRMED", "CANCELLED"};
+
+    @Param({"v7_binary", "v4_binary", "v4_char36"})
+    public String keyType;
+
+    @Param({"1000000"})
+    public int preloadRows;
+
+    private AnnotationConfigApplicationContext context;
+    private DataSource dataSource;
+    private String table;
+    private LocalDateTime baseDate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        context = BenchmarkJpaContext.start();
+        dataSource = context.getBean(DataSource.class);
+        table = "bench_reservation_insert_" + keyType;
+        baseDate = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+        String idColumn = keyType.endsWith("char36") ? "CHAR(36)" : "BINARY(16)";
+        try (Connection connection = dataSource.getConnection(); Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS " + table);
+            ddl.execute("CREATE TABLE " + table + " (" +
+                    "id " + idColumn + " NOT NULL PRIMARY KEY, " +
+                    "user_id BIGINT NOT NULL, " +
+                    "status VARCHAR(16) NOT NULL, " +
+                    "reservation_date DATETIME NOT NULL, " +
+                    "created_at DATETIME NOT NULL, " +
+                    "version BIGINT DEFAULT 0 NOT NULL)");
+            ddl.execute("CREATE INDEX idx_" + table + "_user_status_date ON " + table + " (user_id, status, reservation_date)");
+            ddl.execute("CREATE INDEX idx_" + table + "_user_date ON " + table + " (user_id, reservation_date)");
+        }
+        for (int loaded = 0; loaded < preloadRows; loaded += BATCH) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS " + table);
+        }
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insert() throws SQLException {
+        insertBatch();
+    }
+
+    private void insertBatch() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table +
+                    " (id, user_id, status, reservation_date, created_at) VALUES (?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < BATCH; i++) {
+                    bindId(insert);
+                    insert.setLong(2, random.nextLong(10_000));
+                    insert.setString(3, STATUSES[random.nextInt(STATUSES.length)]);
+                    insert.setTimestamp(4, Timestamp.valueOf(baseDate.plusMinutes(random.nextInt(525_600))));
+                    insert.setTimestamp(5, now);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    private void bindId(PreparedStatement insert) throws SQLException {
+        switch (keyType) {
+            case "v7_binary" -> insert.setBytes(1, ReservationListingBenchmark.toBytes(TimeOrderedUuidGenerator.next()));
+            case "v4_binary" -> insert.setBytes(1, ReservationListingBenchmark.toBytes(UUID.randomUUID()));
+            case "v4_char36" -> insert.setString(1, UUID.randomUUID().toString());
+            default -> throw new IllegalArgumentException("알 수 없는 keyType: " + keyType);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.ViewingReservationDto.ViewingReservationResponseDto;
+import com.example.demo.entity.TimeOrderedUuidGenerator;
+import com.example.demo.entity.ViewingReservation.ReservationStatus;
+import com.example.demo.repository.ViewingReservationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 예매 목록 키셋 페이지네이션 (기본 1천만 건, 사용자당 1,000건)
+ * 상태 조건 없음 / 상태 조건 있음 / 커서 이후 페이지를 각각 20건씩 읽는다
+ *
+ * 1천만 건은 H2 인메모리에 올리기엔 크므로 MySQL 대상으로 돌린다 (처음 한 번 적재 후 재사용, 수 분 소요)
+ * ./gradlew jmh -PjmhIncludes=ReservationListingBenchmark -PbenchDbUrl='jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true' -PbenchDbUser=root -PbenchDbPassword=...
+ * 빠른 확인: ./gradlew jmh -PjmhIncludes=ReservationListingBenchmark -PjmhParams='rows=100000'
+ *
+ * MySQL이면 준비 단계에서 두 쿼리의 EXPLAIN을 출력한다 (Extra에 Using filesort가 없어야 한다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationListingBenchmark {
+
+    private static final int RESERVATIONS_PER_USER = 1_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int INSERT_BATCH = 10_000;
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2030, 1, 1, 10, 0);
+    private static final ReservationStatus[] STATUSES = ReservationStatus.values();
+
+    @Param({"10000000"})
+    public int rows;
+
+    private AnnotationConfigApplicationContext context;
+    private ViewingReservationRepository viewingReservationRepository;
+    private TransactionTemplate readOnly;
+    private List<Long> userIds;
+    private Pageable limit;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        context = BenchmarkJpaContext.start();
+        viewingReservationRepository = context.getBean(ViewingReservationRepository.class);
+        readOnly = BenchmarkJpaContext.transactionTemplate(context, true);
+        limit = PageRequest.ofSize(PAGE_SIZE);
+
+        DataSource dataSource = context.getBean(DataSource.class);
+        String prefix = "bench_owner_" + rows + "_";
+        userIds = loadUserIds(dataSource, prefix);
+        if (userIds.isEmpty()) {
+            seed(dataSource, prefix);
+            userIds = loadUserIds(dataSource, prefix);
+        }
+        if (!BenchmarkJpaContext.isH2()) {
+            explain(dataSource, userIds.get(0));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Slice<ViewingReservationResponseDto> firstSliceByUser() {
+        Long userId = randomUser();
+        return readOnly.execute(status -> viewingReservationRepository.findFirstSliceByUserId(userId, limit));
+    }
+
+    @Benchmark
+    public Slice<ViewingReservationResponseDto> firstSliceByUserAndStatus() {
+        Long userId = randomUser();
+        return readOnly.execute(status ->
+                viewingReservationRepository.findFirstSliceByUserIdAndStatus(userId, ReservationStatus.CONFIRMED, limit));
+    }
+
+    /**
+     * 사용자 이력의 중간쯤 커서에서 다음 페이지 (OFFSET이었다면 앞의 행을 모두 건너뛰며 읽었을 위치)
+     */
+    @Benchmark
+    public Slice<ViewingReservationResponseDto> sliceAfterCursor() {
+        Long userId = randomUser();
+        LocalDateTime afterDate = BASE_DATE.plusHours(RESERVATIONS_PER_USER / 2);
+        return readOnly.execute(status ->
+                viewingReservationRepository.findSliceByUserIdAfter(userId, afterDate, new UUID(0, 0), limit));
+    }
+
+    private Long randomUser() {
+        return userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+    }
+
+    private static List<Long> loadUserIds(DataSource dataSource, String prefix) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement select = connection.prepareStatement("SELECT id FROM users WHERE username LIKE ?")) {
+            select.setString(1, prefix + "%");
+            List<Long> ids = new ArrayList<>();
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * JPA를 거치면 1천만 개 엔티티가 영속성 컨텍스트를 지나가므로 JDBC 배치로 바로 적재한다
+     */
+    private void seed(DataSource dataSource, String prefix) throws SQLException {
+        int users = Math.max(1, rows / RESERVATIONS_PER_USER);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO users (username, email, password, role, created_at, updated_at) VALUES (?, ?, ?, 'USER', ?, ?)")) {
+                for (int u = 0; u < users; u++) {
+                    insert.setString(1, prefix + u);
+                    insert.setString(2, prefix + u + "@example.com");
+                    insert.setString(3, "$2a$10$abcdefghijklmnopqrstuuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0");
+                    insert.setTimestamp(4, now);
+                    insert.setTimestamp(5, now);
+                    insert.addBatch();
+                    if ((u + 1) % INSERT_BATCH == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+
+            List<Long> ids = loadUserIds(dataSource, prefix);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO viewing_reservations (id, user_id, status, reservation_date, created_at, version) VALUES (?, ?, ?, ?, ?, 0)")) {
+                int pending = 0;
+                for (Long userId : ids) {
+                    for (int i = 0; i < RESERVATIONS_PER_USER; i++) {
+                        insert.setBytes(1, toBytes(TimeOrderedUuidGenerator.next()));
+                        insert.setLong(2, userId);
+                        insert.setString(3, STATUSES[i % STATUSES.length].name());
+                        insert.setTimestamp(4, Timestamp.valueOf(BASE_DATE.plusHours(i)));
+                        insert.setTimestamp(5, now);
+                        insert.addBatch();
+                        if (++pending == INSERT_BATCH) {
+                            insert.executeBatch();
+                            connection.commit();
+                            pending = 0;
+                        }
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    private static void explain(DataSource dataSource, Long userId) throws SQLException {
+        String[] queries = {
+            "EXPLAIN SELECT v.id, v.status, v.reservation_date FROM viewing_reservations v JOIN users u ON u.id = v.user_id " +
+            "WHERE v.user_id = ? ORDER BY v.reservation_date, v.id LIMIT 21",
+            "EXPLAIN SELECT v.id, v.status, v.reservation_date FROM viewing_reservations v JOIN users u ON u.id = v.user_id " +
+            "WHERE v.user_id = ? AND v.status = 'CONFIRMED' ORDER BY v.reservation_date, v.id LIMIT 21"
+        };
+        try (Connection connection = dataSource.getConnection()) {
+            for (String query : queries) {
+                try (PreparedStatement explain = connection.prepareStatement(query)) {
+                    explain.setLong(1, userId);
+                    try (ResultSet rs = explain.executeQuery()) {
+                        System.out.println(query);
+                        while (rs.next()) {
+                            System.out.printf("  table=%s key=%s rows=%s extra=%s%n",
+                                    rs.getString("table"), rs.getString("key"), rs.getString("rows"), rs.getString("Extra"));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 프레임 인코딩/디코딩 비용
+ * /topic/public 으로 브로드캐스트되는 채팅 메시지(MESSAGE 프레임) 하나 기준
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StompFrameBenchmark {
+
+    private final StompEncoder encoder = new StompEncoder();
+    private final StompDecoder decoder = new StompDecoder();
+
+    private Message<byte[]> message;
+    private byte[] frame;
+
+    @Setup
+    public void setUp() {
+        byte[] payload = ("{\"type\":\"CHAT\",\"content\":\"안녕하세요! 오늘 경매 몇 시에 시작하나요?\","
+                + "\"sender\":\"john_doe\",\"timestamp\":\"2025-01-01T10:00:00\"}").getBytes(StandardCharsets.UTF_8);
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination("/topic/public");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setMessageId("3f1c2a9e-1");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setContentLength(payload.length);
+        message = MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+        frame = encoder.encode(message);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return encoder.encode(message);
+    }
+
+    @Benchmark
+    public List<Message<byte[]>> decode() {
+        return decoder.decode(ByteBuffer.wrap(frame));
+    }
+}
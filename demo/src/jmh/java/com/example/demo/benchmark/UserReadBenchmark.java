@@ -0,0 +1,102 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.UserResponseDto;
+import com.example.demo.entity.User;
+import com.example.demo.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 사용자 조회: 엔티티 로딩 + UserResponseDto.fromEntity vs 생성자 프로젝션(SELECT new UserResponseDto)
+ * UserService와 같이 읽기 전용 트랜잭션 안에서 리포지토리를 호출한다 (요청 1건 = 트랜잭션 1개)
+ *
+ * 지연 시간: ./gradlew jmh -PjmhIncludes=UserReadBenchmark
+ * 할당량:   ./gradlew jmh -PjmhIncludes=UserReadBenchmark -PjmhProfilers=gc  (gc.alloc.rate.norm = 호출당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserReadBenchmark {
+
+    private static final int USERS = 1_000;
+
+    private AnnotationConfigApplicationContext context;
+    private UserRepository userRepository;
+    private TransactionTemplate readOnly;
+    private List<Long> ids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkJpaContext.start();
+        userRepository = context.getBean(UserRepository.class);
+        readOnly = BenchmarkJpaContext.transactionTemplate(context, true);
+
+        // MySQL에 이미 적재돼 있으면 재사용
+        if (!userRepository.existsByUsername("bench_user_0")) {
+            TransactionTemplate write = BenchmarkJpaContext.transactionTemplate(context, false);
+            write.executeWithoutResult(status -> userRepository.saveAll(IntStream.range(0, USERS)
+                    .mapToObj(i -> User.builder()
+                            .username("bench_user_" + i)
+                            .email("bench_user_" + i + "@example.com")
+                            .password("$2a$10$abcdefghijklmnopqrstuuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0")
+                            .role(i % 20 == 0 ? User.Role.ADMIN : User.Role.USER)
+                            .build())
+                    .toList()));
+        }
+        ids = readOnly.execute(status -> userRepository.findResponsesByUsernameContaining("bench_user_").stream()
+                .map(UserResponseDto::getId)
+                .toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<UserResponseDto> byIdEntity() {
+        Long id = nextId();
+        return readOnly.execute(status -> userRepository.findById(id).map(UserResponseDto::fromEntity));
+    }
+
+    @Benchmark
+    public Optional<UserResponseDto> byIdProjection() {
+        Long id = nextId();
+        return readOnly.execute(status -> userRepository.findResponseById(id));
+    }
+
+    /**
+     * 역할별 목록 (H2 기준 ADMIN 50명)
+     */
+    @Benchmark
+    public List<UserResponseDto> byRoleEntity() {
+        return readOnly.execute(status -> userRepository.findByRole(User.Role.ADMIN).stream()
+                .map(UserResponseDto::fromEntity)
+                .toList());
+    }
+
+    @Benchmark
+    public List<UserResponseDto> byRoleProjection() {
+        return readOnly.execute(status -> userRepository.findResponsesByRole(User.Role.ADMIN));
+    }
+
+    private Long nextId() {
+        next = (next + 1) % ids.size();
+        return ids.get(next);
+    }
+}
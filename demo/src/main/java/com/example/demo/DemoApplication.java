@@ -3,6 +3,8 @@ package com.example.demo;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 
 /**
@@ -12,6 +14,8 @@ import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBr
 @SpringBootApplication // NestJS의 @Module() 데코레이터와 비슷하지만 더 포괄적
 @EnableJpaRepositories // NestJS의 TypeOrmModule.forRoot()와 비슷한 JPA 활성화
 @EnableWebSocketMessageBroker // NestJS의 WebSocket Gateway 활성화와 비슷
+@EnableScheduling // NestJS의 @nestjs/schedule ScheduleModule과 비슷
+@EnableAsync // NestJS의 EventEmitter2 async 리스너와 비슷
 public class DemoApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,94 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 프라이머리/레플리카 DataSource 라우팅 설정
+ * app.datasource.routing.enabled=true 일 때만 활성화되며,
+ * 이 경우 Spring Boot 기본 DataSource 자동 설정 대신 사용된다.
+ *
+ * 풀 메트릭은 풀 이름(primary, replica-*) 태그로 hikaricp.* 에 기록된다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    /**
+     * 실제 커넥션 풀들을 소유하는 라우팅 DataSource
+     * 컨텍스트 종료 시 close()로 모든 풀을 닫는다
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             DataSourceRoutingProperties routingProperties,
+                                                             Environment environment,
+                                                             MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricRegistry(meterRegistry);
+
+        List<HikariDataSource> replicas = routingProperties.getReplicas().stream()
+                .map(replica -> createReplicaPool(replica, dataSourceProperties, meterRegistry))
+                .toList();
+
+        return new ReplicaRoutingDataSource(primary, replicas, routingProperties, meterRegistry);
+    }
+
+    /**
+     * 애플리케이션(JPA)이 사용하는 DataSource
+     * 첫 SQL 실행 시점까지 실제 커넥션 획득을 미뤄 readOnly 플래그를 보고 라우팅할 수 있게 한다
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * replica-local 프로필: 서로 다른 H2 DB인 프라이머리 -> 레플리카를 주기적으로 복사
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.routing.local-sync", name = "enabled", havingValue = "true")
+    public H2ReplicaSync h2ReplicaSync(DataSourceProperties dataSourceProperties,
+                                       DataSourceRoutingProperties routingProperties,
+                                       ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new H2ReplicaSync(dataSourceProperties.determineUrl(), dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword(), routingProperties.getReplicas(), replicaRoutingDataSource);
+    }
+
+    private HikariDataSource createReplicaPool(DataSourceRoutingProperties.Replica replica,
+                                               DataSourceProperties primaryProperties,
+                                               MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("replica-" + replica.getName());
+        pool.setJdbcUrl(replica.getUrl());
+        pool.setUsername(StringUtils.hasText(replica.getUsername())
+                ? replica.getUsername() : primaryProperties.determineUsername());
+        pool.setPassword(StringUtils.hasText(replica.getPassword())
+                ? replica.getPassword() : primaryProperties.determinePassword());
+        pool.setDriverClassName(primaryProperties.determineDriverClassName());
+        pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+        pool.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        pool.setReadOnly(true);
+        pool.setMetricRegistry(meterRegistry);
+        return pool;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 레플리카 라우팅 설정
+ * application.properties의 app.datasource.routing.* 값을 바인딩
+ * NestJS TypeORM의 replication: { master, slaves } 설정과 비슷
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * 라우팅 활성화 여부 (false면 spring.datasource 단일 풀만 사용)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 읽기 전용 트랜잭션을 받을 레플리카 목록
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 허용 가능한 최대 복제 지연. 초과한 레플리카는 라우팅 대상에서 제외
+     */
+    private Duration maxReplicaLag = Duration.ofSeconds(5);
+
+    /**
+     * 레플리카 상태/지연 점검 주기
+     */
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * 복제 지연 조회 쿼리 (비어 있으면 연결 유효성만 확인)
+     */
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    /**
+     * 복제 지연 쿼리 결과에서 지연 시간(초)을 담은 컬럼명
+     */
+    private String lagColumn = "Seconds_Behind_Source";
+
+    /**
+     * 로컬 H2 레플리카 동기화 (replica-local 프로필 전용)
+     */
+    private LocalSync localSync = new LocalSync();
+
+    @Data
+    public static class Replica {
+
+        /**
+         * 레플리카 이름 (풀 이름과 메트릭 태그에 사용)
+         */
+        private String name;
+
+        private String url;
+
+        /**
+         * 비어 있으면 spring.datasource.username 사용
+         */
+        private String username;
+
+        /**
+         * 비어 있으면 spring.datasource.password 사용
+         */
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+        /**
+         * 커넥션 획득 대기 한도. 레플리카 장애 시 요청이 오래 묶이지 않고 빠르게 프라이머리로 넘어가도록 짧게 둔다
+         */
+        private Duration connectionTimeout = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class LocalSync {
+
+        /**
+         * 프라이머리 H2 DB를 주기적으로 덤프해 레플리카 H2 DB에 다시 적재
+         */
+        private boolean enabled = false;
+
+        /**
+         * 동기화 주기 (max-replica-lag보다 길게 두면 지연 초과 -> 프라이머리 대체를 확인할 수 있다)
+         */
+        private Duration interval = Duration.ofSeconds(2);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 조건부 GET(ETag) 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(ETagProperties.class)
+public class ETagConfig {
+}
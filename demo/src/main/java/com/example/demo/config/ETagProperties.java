@@ -0,0 +1,25 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 조건부 GET(ETag) 설정 (app.http.etag.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.http.etag")
+public class ETagProperties {
+
+    /**
+     * 리소스별 ETag 보관 시간. 변경 경로에서 바로 지우지만 무효화는 인스턴스 로컬이므로,
+     * 여러 인스턴스로 띄우면 다른 인스턴스가 옛 ETag로 304를 줄 수 있는 최대 시간이기도 하다
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /**
+     * 보관할 최대 리소스 수. 넘으면 오래 쓰이지 않은 항목부터 제거된다
+     */
+    private long maxEntries = 100_000;
+}
@@ -0,0 +1,97 @@
+package com.example.demo.config;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * LocalDateTime 직렬화 빠른 경로
+ * 기본 LocalDateTimeSerializer는 매번 DateTimeFormatter.ISO_LOCAL_DATE_TIME으로 문자열을 만든다.
+ * 여기서는 같은 결과(yyyy-MM-ddTHH:mm:ss[.fraction], 소수부 끝의 0 생략)를 char 배열에 직접 채워 쓴다.
+ *
+ * 타임스탬프 배열 출력(WRITE_DATES_AS_TIMESTAMPS), @JsonFormat 패턴, 0~9999년 범위 밖은 기본 구현으로 넘긴다.
+ *
+ * DTO 필드마다 불리는 기본 createContextual은 형식 지정이 없어도(shape ANY) 새 LocalDateTimeSerializer를 만들어
+ * 빠른 경로가 루트 값에만 적용된다. 그래서 패턴 / 모양 / 기능 지정이 없는 필드는 이 인스턴스를 그대로 쓰고,
+ * @JsonFormat으로 그중 하나라도 바꾼 필드만 기본 구현(createContextual)으로 넘긴다.
+ */
+public final class FastLocalDateTimeSerializer extends LocalDateTimeSerializer {
+
+    public static final FastLocalDateTimeSerializer INSTANCE = new FastLocalDateTimeSerializer();
+
+    private FastLocalDateTimeSerializer() {
+        super();
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(provider, property, handledType());
+        if (format == null || isDefault(format)) {
+            return this;
+        }
+        return super.createContextual(provider, property);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator g, SerializerProvider provider) throws IOException {
+        int year = value.getYear();
+        if (_formatter != null || useTimestamp(provider) || year < 0 || year > 9999) {
+            super.serialize(value, g, provider);
+            return;
+        }
+
+        char[] buf = new char[29];
+        put4(buf, 0, year);
+        buf[4] = '-';
+        put2(buf, 5, value.getMonthValue());
+        buf[7] = '-';
+        put2(buf, 8, value.getDayOfMonth());
+        buf[10] = 'T';
+        put2(buf, 11, value.getHour());
+        buf[13] = ':';
+        put2(buf, 14, value.getMinute());
+        buf[16] = ':';
+        put2(buf, 17, value.getSecond());
+
+        int length = 19;
+        int nano = value.getNano();
+        if (nano != 0) {
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buf[19] = '.';
+            for (int i = 19 + digits; i > 19; i--) {
+                buf[i] = (char) ('0' + nano % 10);
+                nano /= 10;
+            }
+            length = 20 + digits;
+        }
+        g.writeString(buf, 0, length);
+    }
+
+    private static boolean isDefault(JsonFormat.Value format) {
+        return !format.hasPattern()
+                && format.getShape() == JsonFormat.Shape.ANY
+                && format.getFeature(JsonFormat.Feature.WRITE_DATES_WITH_ZONE_ID) == null
+                && format.getFeature(JsonFormat.Feature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS) == null;
+    }
+
+    private static void put4(char[] buf, int offset, int value) {
+        put2(buf, offset, value / 100);
+        put2(buf, offset + 2, value % 100);
+    }
+
+    private static void put2(char[] buf, int offset, int value) {
+        buf[offset] = (char) ('0' + value / 10);
+        buf[offset + 1] = (char) ('0' + value % 10);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 로컬 H2 레플리카 동기화 (replica-local 프로필 전용)
+ * 프라이머리와 레플리카는 서로 다른 H2 인메모리 DB이고, 주기마다 프라이머리를 SCRIPT로 덤프해
+ * 레플리카에 RUNSCRIPT로 다시 적재한다. 비동기 복제처럼 레플리카는 마지막 동기화 시점의 데이터를 보여준다.
+ *
+ * 적재 후 replica_status.synced_at을 남기므로 lag-query로 복제 지연(초)을 계산할 수 있다.
+ * 적재하는 동안에는 해당 레플리카를 라우팅 대상에서 잠시 뺀다.
+ */
+public class H2ReplicaSync {
+
+    private static final Logger log = LoggerFactory.getLogger(H2ReplicaSync.class);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(1);
+
+    private final String primaryUrl;
+    private final String username;
+    private final String password;
+    private final List<DataSourceRoutingProperties.Replica> replicas;
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    public H2ReplicaSync(String primaryUrl, String username, String password,
+                         List<DataSourceRoutingProperties.Replica> replicas,
+                         ReplicaRoutingDataSource routingDataSource) {
+        this.primaryUrl = primaryUrl;
+        this.username = username;
+        this.password = password;
+        this.replicas = replicas;
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.local-sync.interval:2s}")
+    public void sync() {
+        Path script = null;
+        try {
+            script = Files.createTempFile("replica-sync", ".sql");
+            execute(primaryUrl, "SCRIPT NOPASSWORDS NOSETTINGS TO '" + quote(script) + "'");
+            Path dump = script;
+            for (DataSourceRoutingProperties.Replica replica : replicas) {
+                routingDataSource.detachWhile("replica-" + replica.getName(), DRAIN_TIMEOUT, () -> restore(replica, dump));
+            }
+        } catch (IOException | SQLException e) {
+            log.warn("로컬 레플리카 동기화 실패: {}", e.getMessage());
+        } finally {
+            deleteQuietly(script);
+        }
+    }
+
+    private void restore(DataSourceRoutingProperties.Replica replica, Path script) {
+        try {
+            execute(replica.getUrl(),
+                    "DROP ALL OBJECTS",
+                    "RUNSCRIPT FROM '" + quote(script) + "'",
+                    "CREATE TABLE replica_status AS SELECT CURRENT_TIMESTAMP AS synced_at");
+        } catch (SQLException e) {
+            log.warn("로컬 레플리카 {} 적재 실패: {}", replica.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 풀을 거치지 않고 직접 연결 (레플리카 풀은 읽기 전용이고, 라우팅 메트릭에 섞이지 않도록)
+     */
+    private void execute(String url, String... statements) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("임시 덤프 파일 삭제 실패: {}", path);
+        }
+    }
+
+    private static String quote(Path path) {
+        return path.toAbsolutePath().toString().replace("'", "''");
+    }
+}
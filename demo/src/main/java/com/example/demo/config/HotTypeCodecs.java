@@ -0,0 +1,69 @@
+package com.example.demo.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자주 주고받는 DTO의 ObjectWriter / ObjectReader 캐시
+ * 기본 컨버터는 요청마다 objectMapper.writer()를 만들고 루트 직렬화기를 다시 찾는다.
+ * 여기서는 타입별로 한 번 만든 writer/reader(루트 직렬화기 미리 해석됨)를 재사용한다.
+ *
+ * 대상은 hotTypes 자체와, hotTypes를 원소로 담는 컨테이너 타입(List / Page 등)이다.
+ * 대상이 아니면 null을 돌려주며 호출 측은 기본 경로를 탄다.
+ */
+public class HotTypeCodecs {
+
+    private final ObjectMapper objectMapper;
+    private final Set<Class<?>> hotTypes;
+    private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public HotTypeCodecs(ObjectMapper objectMapper, Set<Class<?>> hotTypes) {
+        this.objectMapper = objectMapper;
+        this.hotTypes = Set.copyOf(hotTypes);
+        for (Class<?> type : this.hotTypes) {
+            writers.put(objectMapper.constructType(type), objectMapper.writerFor(type));
+            readers.put(type, objectMapper.readerFor(type));
+        }
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public boolean isHot(Class<?> type) {
+        return hotTypes.contains(type);
+    }
+
+    /**
+     * 캐시된 writer (대상 타입이 아니면 null)
+     */
+    public ObjectWriter writerFor(JavaType type) {
+        ObjectWriter writer = writers.get(type);
+        if (writer != null || !isHotOrHotContainer(type)) {
+            return writer;
+        }
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    /**
+     * 캐시된 reader (대상 타입이 아니면 null)
+     */
+    public ObjectReader readerFor(Class<?> type) {
+        return readers.get(type);
+    }
+
+    private boolean isHotOrHotContainer(JavaType type) {
+        if (isHot(type.getRawClass())) {
+            return true;
+        }
+        // 원소 타입이 대상일 때만 캐시하므로 항목 수는 hotTypes x 컨테이너 종류로 제한된다
+        return type.containedTypeCount() == 1 && isHot(type.containedType(0).getRawClass());
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.config;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.TypeUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * REST 응답 JSON 컨버터 (캐시된 ObjectWriter 사용)
+ * NestJS의 ClassSerializerInterceptor를 응답 타입별로 미리 준비해 두는 것과 비슷
+ *
+ * HotTypeCodecs 대상 타입(Page&lt;UserResponseDto&gt; 등)의 UTF-8 응답만 빠른 경로로 쓰고,
+ * JsonView / 필터(MappingJacksonValue)나 다른 문자셋은 기본 구현을 그대로 탄다.
+ * 컨테이너 타입은 선언 타입, 그 외는 런타임 클래스로 직렬화하는 기본 구현의 규칙을 그대로 따른다.
+ */
+public class HotTypeJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final HotTypeCodecs codecs;
+
+    public HotTypeJackson2HttpMessageConverter(HotTypeCodecs codecs) {
+        super(codecs.getObjectMapper());
+        this.codecs = codecs;
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        ObjectWriter writer = object instanceof MappingJacksonValue ? null : cachedWriter(object, type);
+        if (writer == null || getJsonEncoding(outputMessage.getHeaders().getContentType()) != JsonEncoding.UTF8) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        try {
+            writer.writeValue(StreamUtils.nonClosing(outputMessage.getBody()), object);
+        } catch (InvalidDefinitionException ex) {
+            throw new HttpMessageConversionException("Type definition error: " + ex.getType(), ex);
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + ex.getOriginalMessage(), ex);
+        }
+    }
+
+    @Nullable
+    private ObjectWriter cachedWriter(Object object, @Nullable Type type) {
+        JavaType javaType = getObjectMapper().constructType(object.getClass());
+        if (type != null && TypeUtils.isAssignable(type, object.getClass())) {
+            JavaType declared = getJavaType(type, null);
+            if (declared.isContainerType()) {
+                javaType = declared;
+            } else if (declared.hasGenericTypes()) {
+                // Page<UserResponseDto> -> PageImpl<UserResponseDto>: 출력은 런타임 클래스 기준 그대로, 캐시 키만 원소 타입을 구분
+                javaType = getObjectMapper().getTypeFactory().constructSpecializedType(declared, object.getClass());
+            }
+        }
+        return codecs.writerFor(javaType);
+    }
+}
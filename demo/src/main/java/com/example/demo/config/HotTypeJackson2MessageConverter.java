@@ -0,0 +1,73 @@
+package com.example.demo.config;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.DefaultContentTypeResolver;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+
+/**
+ * STOMP 메시지 JSON 컨버터 (캐시된 ObjectWriter / ObjectReader 사용)
+ * /topic/public 채팅 메시지처럼 같은 타입이 계속 오가는 페이로드용
+ *
+ * HotTypeCodecs 대상 타입만 맡고 나머지는 뒤에 있는 기본 컨버터(String / byte[] / Jackson)로 넘긴다.
+ */
+public class HotTypeJackson2MessageConverter extends MappingJackson2MessageConverter {
+
+    private final HotTypeCodecs codecs;
+
+    public HotTypeJackson2MessageConverter(HotTypeCodecs codecs) {
+        this.codecs = codecs;
+        setObjectMapper(codecs.getObjectMapper());
+        // Spring Boot 기본 STOMP 컨버터와 같이 content-type이 없으면 JSON으로 본다
+        DefaultContentTypeResolver resolver = new DefaultContentTypeResolver();
+        resolver.setDefaultMimeType(MimeTypeUtils.APPLICATION_JSON);
+        setContentTypeResolver(resolver);
+    }
+
+    @Override
+    protected boolean canConvertFrom(Message<?> message, @Nullable Class<?> targetClass) {
+        return targetClass != null && codecs.isHot(targetClass) && super.canConvertFrom(message, targetClass);
+    }
+
+    @Override
+    protected boolean canConvertTo(Object payload, @Nullable MessageHeaders headers) {
+        return codecs.isHot(payload.getClass()) && super.canConvertTo(payload, headers);
+    }
+
+    @Override
+    @Nullable
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, @Nullable Object conversionHint) {
+        ObjectReader reader = codecs.readerFor(targetClass);
+        if (reader == null || !(message.getPayload() instanceof byte[] bytes) || getSerializationView(conversionHint) != null) {
+            return super.convertFromInternal(message, targetClass, conversionHint);
+        }
+        try {
+            return reader.readValue(bytes);
+        } catch (IOException ex) {
+            throw new MessageConversionException(message, "Could not read JSON: " + ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    @Nullable
+    protected Object convertToInternal(Object payload, @Nullable MessageHeaders headers, @Nullable Object conversionHint) {
+        ObjectWriter writer = codecs.writerFor(getObjectMapper().constructType(payload.getClass()));
+        if (writer == null || byte[].class != getSerializedPayloadClass() || getSerializationView(conversionHint) != null
+                || getJsonEncoding(getMimeType(headers)) != JsonEncoding.UTF8) {
+            return super.convertToInternal(payload, headers, conversionHint);
+        }
+        try {
+            return writer.writeValueAsBytes(payload);
+        } catch (IOException ex) {
+            throw new MessageConversionException("Could not write JSON: " + ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.config;
+
+import com.example.demo.controller.ChatController.ChatMessage;
+import com.example.demo.dto.UserResponseDto;
+import com.example.demo.dto.ViewingReservationDto.ReservationStatusMessage;
+import com.example.demo.dto.ViewingReservationDto.ViewingReservationResponseDto;
+import com.example.demo.dto.ViewingReservationDto.ViewingReservationSliceDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * JSON 직렬화 튜닝
+ * NestJS에서 class-transformer 대신 fast-json-stringify 같은 스키마 기반 직렬화기를 쓰는 것과 비슷
+ *
+ * - Blackbird: getter/setter/생성자 호출을 리플렉션 대신 LambdaMetafactory로 만든 접근자로 처리
+ * - LocalDateTime: ISO 문자열을 DateTimeFormatter 없이 직접 인코딩 (출력 형식은 동일)
+ * - 자주 쓰는 DTO는 ObjectWriter / ObjectReader를 미리 만들어 REST(HTTP)와 STOMP 컨버터에서 재사용
+ *
+ * 효과는 JsonSerializationBenchmark로 확인 (./gradlew jmh -PjmhIncludes=JsonSerializationBenchmark)
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Spring Boot가 Module 빈을 ObjectMapper에 자동 등록한다
+     */
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fastLocalDateTimeCustomizer() {
+        return builder -> builder.serializerByType(LocalDateTime.class, FastLocalDateTimeSerializer.INSTANCE);
+    }
+
+    /**
+     * writer/reader를 미리 만들어 둘 타입
+     * (/api/users/paginated, 사용자 / 예매 조회, /topic/public 채팅, 예매 상태 알림)
+     */
+    @Bean
+    public HotTypeCodecs hotTypeCodecs(ObjectMapper objectMapper) {
+        return new HotTypeCodecs(objectMapper, Set.of(
+                UserResponseDto.class, ViewingReservationResponseDto.class, ViewingReservationSliceDto.class,
+                ChatMessage.class, ReservationStatusMessage.class));
+    }
+
+    /**
+     * 기본 MappingJackson2HttpMessageConverter를 대체 (Spring Boot는 같은 타입의 빈이 있으면 기본 컨버터를 만들지 않는다)
+     */
+    @Bean
+    public HotTypeJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(HotTypeCodecs hotTypeCodecs) {
+        return new HotTypeJackson2HttpMessageConverter(hotTypeCodecs);
+    }
+}
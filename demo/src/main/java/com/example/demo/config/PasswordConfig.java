@@ -1,5 +1,7 @@
 package com.example.demo.config;
 
+import com.example.demo.monitoring.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -16,9 +18,10 @@ public class PasswordConfig {
     /**
      * 비밀번호 암호화 Bean
      * NestJS에서 bcrypt 사용과 같음
+     * 인증마다 드는 BCrypt 시간을 security.password.encoder 메트릭으로 기록
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,203 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트랜잭션 종류에 따라 커넥션을 나눠주는 라우팅 DataSource
+ * - @Transactional(readOnly = true) → 정상 상태의 레플리카 중 라운드 로빈
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 없음) → 프라이머리
+ *
+ * 레플리카가 죽었거나 복제 지연이 허용치를 넘으면 프라이머리로 대신 보낸다.
+ * 트랜잭션의 readOnly 플래그가 정해진 뒤에 커넥션을 얻어야 하므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용해야 한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final HikariDataSource primary;
+    private final List<ReplicaTarget> replicas;
+    private final DataSourceRoutingProperties properties;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final Counter primaryRoutes;
+    private final Counter fallbackRoutes;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicaPools,
+                                    DataSourceRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.properties = properties;
+        this.replicas = replicaPools.stream()
+                .map(pool -> new ReplicaTarget(pool, meterRegistry))
+                .toList();
+        this.primaryRoutes = Counter.builder("datasource.routing.connections")
+                .tag("target", primary.getPoolName())
+                .register(meterRegistry);
+        this.fallbackRoutes = Counter.builder("datasource.routing.fallbacks")
+                .description("레플리카를 쓸 수 없어 프라이머리로 보낸 읽기 전용 커넥션 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            return primary.getConnection();
+        }
+
+        ReplicaTarget replica = selectReplica();
+        if (replica != null) {
+            try {
+                Connection connection = replica.pool.getConnection();
+                replica.routes.increment();
+                return connection;
+            } catch (SQLException ex) {
+                // 커넥션 획득 실패 시 다음 점검 전까지 라우팅 대상에서 제외
+                replica.healthy = false;
+                log.warn("레플리카 {} 커넥션 획득 실패, 프라이머리로 전환합니다: {}", replica.pool.getPoolName(), ex.getMessage());
+            }
+        }
+
+        fallbackRoutes.increment();
+        primaryRoutes.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("라우팅 DataSource는 풀에 설정된 계정만 사용합니다");
+    }
+
+    /**
+     * 정상 상태이면서 지연이 허용치 이내인 레플리카를 라운드 로빈으로 선택
+     * 사용 가능한 레플리카가 없으면 null
+     */
+    private ReplicaTarget selectReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        long maxLagSeconds = properties.getMaxReplicaLag().toSeconds();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaTarget candidate = replicas.get((start + i) % size);
+            if (!candidate.detached && candidate.healthy && candidate.lagSeconds <= maxLagSeconds) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 레플리카 상태와 복제 지연을 주기적으로 점검
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.routing.lag-check-interval:5s}")
+    public void refreshReplicaStatus() {
+        replicas.forEach(this::refresh);
+    }
+
+    private void refresh(ReplicaTarget replica) {
+        try (Connection connection = replica.pool.getConnection()) {
+            replica.lagSeconds = queryLagSeconds(connection);
+            replica.healthy = replica.lagSeconds >= 0;
+        } catch (SQLException ex) {
+            replica.healthy = false;
+            log.warn("레플리카 {} 상태 점검 실패: {}", replica.pool.getPoolName(), ex.getMessage());
+        }
+    }
+
+    /**
+     * 레플리카 하나를 잠시 라우팅 대상에서 빼고 작업을 실행한 뒤 다시 점검해 되돌린다 (로컬 H2 레플리카 동기화용)
+     * 이미 빌려간 커넥션이 반납될 때까지 최대 drainTimeout 기다린다
+     */
+    public void detachWhile(String poolName, Duration drainTimeout, Runnable work) {
+        ReplicaTarget replica = replicas.stream()
+                .filter(candidate -> candidate.pool.getPoolName().equals(poolName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 레플리카 풀: " + poolName));
+        replica.detached = true;
+        try {
+            long deadline = System.nanoTime() + drainTimeout.toNanos();
+            HikariPoolMXBean poolStats = replica.pool.getHikariPoolMXBean();
+            while (poolStats != null && poolStats.getActiveConnections() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            work.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            refresh(replica);
+            replica.detached = false;
+        }
+    }
+
+    /**
+     * 복제 지연(초) 조회
+     * 조회 쿼리가 없거나 결과 행이 없으면 (복제 설정 없는 로컬 인스턴스) 0,
+     * 지연 값이 NULL이면 복제가 멈춘 상태이므로 -1
+     */
+    private long queryLagSeconds(Connection connection) throws SQLException {
+        if (!StringUtils.hasText(properties.getLagQuery())) {
+            return connection.isValid(1) ? 0 : -1;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+            if (!resultSet.next()) {
+                return 0;
+            }
+            long lag = resultSet.getLong(properties.getLagColumn());
+            return resultSet.wasNull() ? -1 : lag;
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.pool.close());
+        primary.close();
+    }
+
+    /**
+     * 레플리카 풀 하나와 그 상태
+     */
+    private static final class ReplicaTarget {
+        private final HikariDataSource pool;
+        private final Counter routes;
+        private volatile boolean healthy = true;
+        private volatile boolean detached = false;
+        private volatile long lagSeconds = 0;
+
+        private ReplicaTarget(HikariDataSource pool, MeterRegistry meterRegistry) {
+            this.pool = pool;
+            this.routes = Counter.builder("datasource.routing.connections")
+                    .tag("target", pool.getPoolName())
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.lag", this, target -> target.lagSeconds)
+                    .tag("replica", pool.getPoolName())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.healthy", this, target -> target.healthy ? 1 : 0)
+                    .tag("replica", pool.getPoolName())
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 영화 예매 기능 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(ReservationProperties.class)
+public class ReservationConfig {
+}
@@ -0,0 +1,108 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 영화 예매 관련 설정 (app.reservation.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.reservation")
+public class ReservationProperties {
+
+    /**
+     * 한 시간대(slot)에 받을 수 있는 최대 예매 수
+     */
+    private int slotCapacity = 20;
+
+    /**
+     * 시간대 길이. 예매일시는 하루 시작 기준으로 이 길이 단위로 내림되어 시간대가 정해진다
+     */
+    private Duration slotLength = Duration.ofMinutes(30);
+
+    private WriteBehind writeBehind = new WriteBehind();
+
+    private Outbox outbox = new Outbox();
+
+    private Expiry expiry = new Expiry();
+
+    private Idempotency idempotency = new Idempotency();
+
+    @Data
+    public static class WriteBehind {
+
+        /**
+         * 한 트랜잭션으로 묶어 INSERT할 최대 예매 수
+         */
+        private int batchSize = 100;
+
+        /**
+         * 첫 예매가 들어온 뒤 배치를 채우기 위해 더 기다리는 최대 시간
+         */
+        private Duration maxLinger = Duration.ofMillis(2);
+
+        /**
+         * 저장 대기열 크기. 가득 차면 새 예매는 즉시 거절된다
+         */
+        private int queueCapacity = 10_000;
+
+        /**
+         * 요청 스레드가 저장 완료를 기다리는 최대 시간
+         */
+        private Duration ackTimeout = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Outbox {
+
+        /**
+         * 한 번에 읽어 전송할 최대 상태 변경 이벤트 수
+         */
+        private int batchSize = 100;
+
+        /**
+         * 커밋 직후 전송이 누락된 이벤트(서버 재시작 등)를 다시 전송하는 주기
+         */
+        private Duration pollInterval = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Expiry {
+
+        /**
+         * PENDING 상태로 이 시간이 지난 예매는 CANCELLED로 만료된다
+         */
+        private Duration pendingTtl = Duration.ofMinutes(15);
+
+        /**
+         * 한 트랜잭션(잠금 구간)에서 만료 처리할 최대 예매 수
+         */
+        private int chunkSize = 500;
+
+        /**
+         * 한 번 실행에서 처리할 최대 청크 수. 남은 예매는 다음 실행에서 이어서 처리한다
+         */
+        private int maxChunksPerRun = 20;
+
+        /**
+         * 만료 작업 실행 간격
+         */
+        private Duration interval = Duration.ofMinutes(1);
+    }
+
+    @Data
+    public static class Idempotency {
+
+        /**
+         * Idempotency-Key별 응답을 보관하는 시간. 이 시간 안의 재시도는 저장된 응답을 그대로 돌려받는다
+         */
+        private Duration ttl = Duration.ofHours(24);
+
+        /**
+         * 보관할 최대 키 수. 넘으면 오래 쓰이지 않은 키부터 제거된다
+         */
+        private long maxKeys = 100_000;
+    }
+}
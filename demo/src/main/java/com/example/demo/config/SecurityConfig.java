@@ -1,10 +1,12 @@
 package com.example.demo.config;
 
+import com.example.demo.monitoring.JfrAuthenticationProvider;
 import com.example.demo.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -40,13 +42,14 @@ public class SecurityConfig {
     /**
      * 인증 제공자 설정
      * NestJS의 LocalStrategy와 비슷한 역할
+     * 인증 1건마다 JFR 이벤트(com.example.demo.Authentication)를 남기도록 감싼다
      */
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userService);
         authProvider.setPasswordEncoder(passwordEncoder);
-        return authProvider;
+        return new JfrAuthenticationProvider(authProvider);
     }
 
     /**
@@ -95,9 +98,14 @@ public class SecurityConfig {
                 // 정적 리소스 접근 허용
                 .requestMatchers("/css/**", "/js/**", "/images/**", "/*.html").permitAll()
                 
+                // Actuator: 헬스 체크만 공개, 메트릭 등은 관리자 전용
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                
                 // 관리자 전용 엔드포인트 (NestJS의 @Roles('admin') 데코레이터와 비슷)
                 .requestMatchers("/api/users/paginated").hasRole("ADMIN")
                 .requestMatchers("/api/users/role/**").hasRole("ADMIN")
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 
                 // 나머지 모든 요청은 인증 필요 (NestJS의 기본 AuthGuard와 비슷)
                 .anyRequest().authenticated()
@@ -7,6 +7,8 @@ import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.Components;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,6 +16,9 @@ import org.springframework.context.annotation.Configuration;
  * Swagger API 문서화 설정
  * NestJS의 SwaggerModule.setup()과 동일한 역할
  * API 문서를 자동으로 생성하고 UI를 제공
+ *
+ * 문서 생성은 기동 경로에서 뺀다: springdoc 빈은 지연 초기화하고 (pre-loading-enabled=false)
+ * 첫 /v3/api-docs, /swagger-ui 요청 때 만든다.
  */
 @Configuration
 public class SwaggerConfig {
@@ -43,4 +48,24 @@ public class SwaggerConfig {
                                 .description("HTTP Basic Authentication - 사용자명과 비밀번호로 인증")))
                 .addSecurityItem(new SecurityRequirement().addList("basicAuth"));
     }
-}
\ No newline at end of file
+
+    /**
+     * springdoc 빈 정의를 지연 초기화로 표시
+     * 프로퍼티로 자동 설정을 끄는 방식과 달리 AOT 처리 결과(빈 정의의 lazy 플래그)에도 그대로 반영된다
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazySpringdocBeans() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (isSpringdoc(definition.getBeanClassName()) || isSpringdoc(definition.getFactoryBeanName())) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static boolean isSpringdoc(String name) {
+        return name != null && name.startsWith("org.springdoc.");
+    }
+}
@@ -1,11 +1,23 @@
 package com.example.demo.config;
 
+import com.example.demo.monitoring.BrokerFanOutMetricsInterceptor;
+import com.example.demo.monitoring.BrokerSendJfrInterceptor;
+import com.example.demo.monitoring.StompDispatchJfrInterceptor;
+import com.example.demo.monitoring.StompTraceBrokerInterceptor;
+import com.example.demo.monitoring.StompTraceInboundInterceptor;
+import com.example.demo.monitoring.StompTraceOutboundInterceptor;
+import com.example.demo.monitoring.StompTraceRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import java.util.List;
+
 /**
  * WebSocket 설정 클래스
  * NestJS의 @WebSocketGateway() 데코레이터와 전체 WebSocket 모듈 설정과 비슷한 역할
@@ -15,6 +27,19 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker // NestJS의 WebSocket 모듈 활성화와 비슷
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String USER_DESTINATION_PREFIX = "/user";
+
+    private final MeterRegistry meterRegistry;
+    private final StompTraceRecorder stompTraceRecorder;
+    private final HotTypeCodecs hotTypeCodecs;
+
+    public WebSocketConfig(MeterRegistry meterRegistry, StompTraceRecorder stompTraceRecorder,
+                           HotTypeCodecs hotTypeCodecs) {
+        this.meterRegistry = meterRegistry;
+        this.stompTraceRecorder = stompTraceRecorder;
+        this.hotTypeCodecs = hotTypeCodecs;
+    }
+
     /**
      * Message Broker 설정
      * NestJS에서 Socket.IO의 namespace/room 개념과 비슷
@@ -31,7 +56,42 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         
         // 특정 사용자에게 개인 메시지를 보낼 때 사용할 prefix
         // NestJS에서 socket.to(userId).emit() 과 비슷한 개념
-        config.setUserDestinationPrefix("/user");
+        config.setUserDestinationPrefix(USER_DESTINATION_PREFIX);
+
+        // 목적지별 메시지 수 / 구독자 팬아웃 시간 기록 + 전송마다 JFR 이벤트 + 샘플링된 메시지 추적
+        config.configureBrokerChannel().interceptors(
+                new BrokerFanOutMetricsInterceptor(meterRegistry, USER_DESTINATION_PREFIX), new BrokerSendJfrInterceptor(),
+                new StompTraceBrokerInterceptor(stompTraceRecorder));
+    }
+
+    /**
+     * 클라이언트 -> 서버 채널 설정
+     * @MessageMapping 핸들러 실행마다 JFR 이벤트(com.example.demo.StompDispatch)를 남기고,
+     * 샘플링된 메시지는 큐 대기 / 핸들러 구간을 추적한다
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new StompDispatchJfrInterceptor(), new StompTraceInboundInterceptor(stompTraceRecorder));
+    }
+
+    /**
+     * 서버 -> 클라이언트 채널 설정
+     * 샘플링된 메시지는 구독자 세션별 큐 대기 / 프레임 전송 구간을 추적한다
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new StompTraceOutboundInterceptor());
+    }
+
+    /**
+     * 메시지 컨버터 설정
+     * 채팅 메시지 등 자주 오가는 타입은 캐시된 writer/reader 컨버터가 맨 앞에서 처리하고,
+     * 나머지는 Spring Boot 기본 컨버터(String / byte[] / Jackson)가 그대로 맡는다
+     */
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        messageConverters.add(0, new HotTypeJackson2MessageConverter(hotTypeCodecs));
+        return false;
     }
 
     /**
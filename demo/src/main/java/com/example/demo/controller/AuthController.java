@@ -2,6 +2,7 @@ package com.example.demo.controller;
 
 import com.example.demo.dto.UserRequestDto;
 import com.example.demo.dto.UserResponseDto;
+import com.example.demo.service.ResourceETagCache;
 import com.example.demo.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,6 +17,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.security.Principal;
 
@@ -31,11 +33,14 @@ public class AuthController {
 
     private final UserService userService;
     private final AuthenticationManager authenticationManager;
+    private final ResourceETagCache etagCache;
 
     @Autowired
-    public AuthController(UserService userService, AuthenticationManager authenticationManager) {
+    public AuthController(UserService userService, AuthenticationManager authenticationManager,
+                          ResourceETagCache etagCache) {
         this.userService = userService;
         this.authenticationManager = authenticationManager;
+        this.etagCache = etagCache;
     }
 
     /**
@@ -50,12 +55,9 @@ public class AuthController {
             @ApiResponse(responseCode = "409", description = "중복된 사용자명 또는 이메일")
     })
     public ResponseEntity<UserResponseDto> register(@Valid @RequestBody UserRequestDto userRequestDto) {
-        try {
-            UserResponseDto registeredUser = userService.createUser(userRequestDto);
-            return new ResponseEntity<>(registeredUser, HttpStatus.CREATED);
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().build();
-        }
+        // 중복 사용자명/이메일은 DuplicateException -> GlobalExceptionHandler에서 409로 변환
+        UserResponseDto registeredUser = userService.createUser(userRequestDto);
+        return new ResponseEntity<>(registeredUser, HttpStatus.CREATED);
     }
 
     /**
@@ -105,17 +107,17 @@ public class AuthController {
     /**
      * 현재 로그인한 사용자 정보
      * NestJS: @Get('profile') getProfile(@Request() req)와 같음
+     * 폴링용: If-None-Match가 현재 ETag와 같으면 DB 조회 없이 304
      */
     @GetMapping("/profile")
-    @Operation(summary = "프로필 조회", description = "현재 로그인한 사용자의 프로필을 조회합니다")
-    public ResponseEntity<UserResponseDto> getProfile(Principal principal) {
+    @Operation(summary = "프로필 조회", description = "현재 로그인한 사용자의 프로필을 조회합니다 (ETag / If-None-Match 지원)")
+    public ResponseEntity<UserResponseDto> getProfile(Principal principal, WebRequest request) {
         if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        return userService.getUserByUsername(principal.getName())
-                .map(user -> ResponseEntity.ok(user))
-                .orElse(ResponseEntity.notFound().build());
+        return ConditionalGets.get(etagCache, ResourceETagCache.usernameKey(principal.getName()), request,
+                () -> userService.getUserByUsername(principal.getName()), ResourceETagCache::userTag);
     }
 
     /**
@@ -0,0 +1,43 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.ResourceETagCache;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ETag 기반 조건부 GET 처리
+ * 1. 캐시된 ETag가 If-None-Match와 같으면 DB 조회 / 직렬화 없이 304
+ * 2. 아니면 조회해서 ETag를 계산 / 캐시하고 200 (이때도 일치하면 Spring이 본문 없이 304로 바꾼다)
+ *    조회 중에 커밋된 변경이 있으면 읽은 값이 옛 값일 수 있으므로 ETag를 캐시하지 않는다
+ *
+ * 인증이 필요한 응답이므로 Cache-Control: private, no-cache (브라우저는 보관하되 매번 재검증)
+ */
+final class ConditionalGets {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGets() {
+    }
+
+    static <T> ResponseEntity<T> get(ResourceETagCache etagCache, Object key, WebRequest request,
+                                     Supplier<Optional<T>> loader, Function<T, String> tagOf) {
+        String cached = etagCache.get(key);
+        if (cached != null && request.checkNotModified(cached)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cached).cacheControl(REVALIDATE).build();
+        }
+        long loadStartedAt = etagCache.currentGeneration();
+        Optional<T> body = loader.get();
+        if (body.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        String etag = tagOf.apply(body.get());
+        etagCache.put(key, etag, loadStartedAt);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body.get());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.controller;
+
+import com.example.demo.monitoring.JfrRecordingManager;
+import com.example.demo.monitoring.JfrRecordingManager.RecordingStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * JFR 기록 컨트롤러 (관리자 전용)
+ * 운영 중 장애 분석용으로 연속 기록을 켜고, 스냅샷(.jfr)을 내려받아 JDK Mission Control로 연다
+ */
+@RestController
+@RequestMapping("/api/admin/jfr/recording")
+@Tag(name = "JFR 기록", description = "연속 JFR 기록 시작 / 덤프 / 중지 API")
+@PreAuthorize("hasRole('ADMIN')")
+public class JfrRecordingController {
+
+    private static final Duration MAX_AGE = Duration.ofHours(6);
+    private static final DataSize MAX_SIZE = DataSize.ofGigabytes(1);
+
+    private final JfrRecordingManager recordingManager;
+
+    public JfrRecordingController(JfrRecordingManager recordingManager) {
+        this.recordingManager = recordingManager;
+    }
+
+    @GetMapping
+    @Operation(summary = "기록 상태 조회", description = "연속 기록의 상태 / 시작 시각 / 현재 크기를 조회합니다")
+    public ResponseEntity<RecordingStatus> getStatus() {
+        return ResponseEntity.ok(recordingManager.status());
+    }
+
+    @PostMapping
+    @Operation(summary = "기록 시작", description = "최근 maxAge / maxSize만큼만 디스크에 유지하는 연속 기록을 시작합니다 (최대 6시간 / 1GB)")
+    public ResponseEntity<RecordingStatus> start(
+            @Parameter(description = "보관 기간 (ISO-8601, 예: PT30M)") @RequestParam(defaultValue = "PT30M") Duration maxAge,
+            @Parameter(description = "보관 크기 (예: 256MB)") @RequestParam(defaultValue = "256MB") DataSize maxSize) {
+        if (maxAge.isNegative() || maxAge.isZero() || maxAge.compareTo(MAX_AGE) > 0
+                || maxSize.toBytes() <= 0 || maxSize.compareTo(MAX_SIZE) > 0) {
+            throw new IllegalArgumentException("maxAge must be at most " + MAX_AGE + " and maxSize at most " + MAX_SIZE);
+        }
+        return ResponseEntity.ok(recordingManager.start(maxAge, maxSize.toBytes()));
+    }
+
+    @GetMapping("/dump")
+    @Operation(summary = "기록 덤프", description = "지금까지의 기록을 .jfr 파일로 내려받습니다 (기록은 계속됩니다)")
+    public ResponseEntity<StreamingResponseBody> dump() {
+        Path file = recordingManager.dump();
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                .body(body);
+    }
+
+    @DeleteMapping
+    @Operation(summary = "기록 중지", description = "연속 기록을 중지하고 디스크의 기록을 지웁니다")
+    public ResponseEntity<Void> stop() {
+        recordingManager.stop();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.controller;
+
+import com.example.demo.logging.LogEscalationRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 요청 단위 로그 레벨 상향 컨트롤러 (관리자 전용)
+ * 등록한 X-Request-Id로 들어오는 요청만 로거 레벨과 무관하게 DEBUG 로그를 남긴다
+ */
+@RestController
+@RequestMapping("/api/admin/logging/escalations")
+@Tag(name = "로그 레벨 상향", description = "요청 ID 단위 DEBUG 로그 활성화 API")
+@PreAuthorize("hasRole('ADMIN')")
+public class LogEscalationController {
+
+    private static final Duration MAX_TTL = Duration.ofHours(1);
+
+    @GetMapping
+    @Operation(summary = "상향 목록 조회", description = "DEBUG로 상향된 요청 ID와 남은 시간(ms)을 조회합니다")
+    public ResponseEntity<Map<String, Long>> getEscalations() {
+        return ResponseEntity.ok(LogEscalationRegistry.snapshot());
+    }
+
+    @PutMapping("/{requestId}")
+    @Operation(summary = "요청 ID 상향", description = "지정한 요청 ID의 로그를 ttl 동안 DEBUG로 남깁니다 (최대 1시간)")
+    public ResponseEntity<Map<String, Long>> escalate(
+            @PathVariable String requestId,
+            @Parameter(description = "유지 시간 (ISO-8601, 예: PT10M)") @RequestParam(defaultValue = "PT10M") Duration ttl) {
+        if (requestId.length() > 64 || ttl.isNegative() || ttl.isZero() || ttl.compareTo(MAX_TTL) > 0) {
+            throw new IllegalArgumentException("requestId must be at most 64 characters and ttl between 0 and " + MAX_TTL);
+        }
+        LogEscalationRegistry.escalate(requestId, ttl);
+        return ResponseEntity.ok(LogEscalationRegistry.snapshot());
+    }
+
+    @DeleteMapping("/{requestId}")
+    @Operation(summary = "요청 ID 상향 해제", description = "지정한 요청 ID의 DEBUG 상향을 해제합니다")
+    public ResponseEntity<Void> clear(@PathVariable String requestId) {
+        LogEscalationRegistry.clear(requestId);
+        return ResponseEntity.noContent().build();
+    }
+}
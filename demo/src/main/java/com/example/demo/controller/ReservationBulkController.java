@@ -0,0 +1,35 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.ViewingReservationDto.BulkStatusUpdateDto;
+import com.example.demo.dto.ViewingReservationDto.BulkStatusUpdateResultDto;
+import com.example.demo.service.ReservationBulkStatusService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 영화 예매 일괄 처리 컨트롤러 (관리자 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/viewing-reservations")
+@Tag(name = "예매 일괄 처리", description = "여러 예매의 상태를 한 번에 변경하는 API")
+@PreAuthorize("hasRole('ADMIN')")
+public class ReservationBulkController {
+
+    private final ReservationBulkStatusService reservationBulkStatusService;
+
+    public ReservationBulkController(ReservationBulkStatusService reservationBulkStatusService) {
+        this.reservationBulkStatusService = reservationBulkStatusService;
+    }
+
+    @PostMapping("/status")
+    @Operation(summary = "예매 상태 일괄 변경", description = "최대 5000개 예매의 상태를 한 트랜잭션에서 변경하고 ID별 결과(UPDATED, UNCHANGED, NOT_FOUND, CONFLICT, SLOT_FULL)를 반환합니다")
+    public ResponseEntity<BulkStatusUpdateResultDto> updateStatuses(@RequestBody BulkStatusUpdateDto bulkStatusUpdateDto) {
+        return ResponseEntity.ok(reservationBulkStatusService.updateStatuses(bulkStatusUpdateDto));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.ReservationExportService;
+import com.example.demo.service.ReservationExportService.ExportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * 영화 예매 내보내기 컨트롤러 (관리자 전용)
+ * NestJS에서 StreamableFile로 파일을 흘려보내는 것과 비슷
+ */
+@RestController
+@RequestMapping("/api/admin/viewing-reservations")
+@Tag(name = "예매 내보내기", description = "예매일 범위의 예매를 gzip CSV / NDJSON으로 내려받는 API")
+@PreAuthorize("hasRole('ADMIN')")
+public class ReservationExportController {
+
+    private static final MediaType APPLICATION_GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final ReservationExportService reservationExportService;
+
+    public ReservationExportController(ReservationExportService reservationExportService) {
+        this.reservationExportService = reservationExportService;
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "예매 내보내기", description = "from ~ to(포함) 예매일의 예매를 예매일시 순으로 스트리밍합니다 (format: CSV, NDJSON / gzip 압축)")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("to must not be before from");
+        }
+        String filename = "viewing-reservations-" + from + "-" + to + "." + format.getExtension() + ".gz";
+        // 응답 스레드와 분리된 비동기 스레드에서 커서를 열고 행 단위로 쓴다
+        StreamingResponseBody body = out -> reservationExportService.export(from, to, format, out);
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_GZIP)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
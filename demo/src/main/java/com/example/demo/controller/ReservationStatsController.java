@@ -0,0 +1,83 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.ViewingReservationDto.DailyReservationStatsDto;
+import com.example.demo.dto.ViewingReservationDto.ReservationStatsDto;
+import com.example.demo.dto.ViewingReservationDto.UserReservationStatsDto;
+import com.example.demo.entity.ViewingReservation.ReservationStatus;
+import com.example.demo.service.ReservationStatistics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 영화 예매 통계 컨트롤러 (관리자 전용)
+ * 테이블을 집계하지 않고 메모리 카운터만 읽으므로 응답 시간이 테이블 크기와 무관하다
+ */
+@RestController
+@RequestMapping("/api/admin/reservation-stats")
+@Tag(name = "예매 통계", description = "상태별 / 예매일별 / 사용자별 예매 건수 조회 API")
+@PreAuthorize("hasRole('ADMIN')")
+public class ReservationStatsController {
+
+    private static final int MAX_DAYS = 366;
+
+    private final ReservationStatistics reservationStatistics;
+
+    public ReservationStatsController(ReservationStatistics reservationStatistics) {
+        this.reservationStatistics = reservationStatistics;
+    }
+
+    @GetMapping
+    @Operation(summary = "상태별 예매 건수", description = "전체 예매의 상태별 건수를 조회합니다")
+    public ResponseEntity<ReservationStatsDto> getSummary() {
+        return ResponseEntity.ok(summary());
+    }
+
+    @GetMapping("/days")
+    @Operation(summary = "예매일별 건수", description = "from ~ to(포함) 예매일의 상태별 건수를 조회합니다 (최대 366일)")
+    public ResponseEntity<List<DailyReservationStatsDto>> getByDay(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new IllegalArgumentException("from ~ to must be a range of 1 to " + MAX_DAYS + " days");
+        }
+        List<DailyReservationStatsDto> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            days.add(new DailyReservationStatsDto(day, reservationStatistics.countByDay(day)));
+        }
+        return ResponseEntity.ok(days);
+    }
+
+    @GetMapping("/users/{userId}")
+    @Operation(summary = "사용자별 건수", description = "사용자의 상태별 예매 건수를 조회합니다")
+    public ResponseEntity<UserReservationStatsDto> getByUser(@PathVariable Long userId) {
+        return ResponseEntity.ok(new UserReservationStatsDto(userId, reservationStatistics.countByUser(userId)));
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "통계 재구성", description = "예매 테이블을 한 번 집계해 카운터를 다시 만듭니다 (읽기 레플리카 사용)")
+    public ResponseEntity<ReservationStatsDto> rebuild() {
+        reservationStatistics.rebuild();
+        return ResponseEntity.ok(summary());
+    }
+
+    private ReservationStatsDto summary() {
+        Map<ReservationStatus, Long> byStatus = reservationStatistics.countByStatus();
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        return new ReservationStatsDto(byStatus, total, reservationStatistics.getRebuiltAt());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.demo.controller;
+
+import com.example.demo.monitoring.SqlStatementRecorder;
+import com.example.demo.monitoring.SqlStatementShape;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 진단 컨트롤러 (관리자 전용)
+ * InstrumentedDataSource가 메모리에 모아둔 느린 쿼리, N+1 의심 패턴, 문장 형태별 통계를 조회
+ */
+@RestController
+@RequestMapping("/api/admin/sql")
+@Tag(name = "SQL 진단", description = "느린 쿼리 / N+1 / 문장 형태별 통계 조회 API")
+@PreAuthorize("hasRole('ADMIN')")
+public class SqlDiagnosticsController {
+
+    private final SqlStatementRecorder recorder;
+
+    public SqlDiagnosticsController(SqlStatementRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @GetMapping("/slow-queries")
+    @Operation(summary = "느린 쿼리 조회", description = "임계값을 넘은 최근 문장을 최신순으로 조회합니다")
+    public ResponseEntity<List<SqlStatementRecorder.SlowQuery>> getSlowQueries() {
+        return ResponseEntity.ok(recorder.getSlowQueries());
+    }
+
+    @GetMapping("/n-plus-one")
+    @Operation(summary = "N+1 의심 패턴 조회", description = "한 요청 안에서 같은 SELECT가 반복 실행된 기록을 조회합니다")
+    public ResponseEntity<List<SqlStatementRecorder.NPlusOneSuspect>> getNPlusOneSuspects() {
+        return ResponseEntity.ok(recorder.getNPlusOneSuspects());
+    }
+
+    @GetMapping("/statements")
+    @Operation(summary = "문장 형태별 통계", description = "총 실행 시간이 큰 순서로 문장 형태별 통계를 조회합니다")
+    public ResponseEntity<List<StatementStats>> getStatementStats(
+            @Parameter(description = "조회 개수") @RequestParam(defaultValue = "50") int limit) {
+        List<StatementStats> stats = recorder.getShapes().stream()
+                .map(StatementStats::from)
+                .sorted(Comparator.comparingDouble(StatementStats::totalMillis).reversed())
+                .limit(limit)
+                .toList();
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * 문장 형태별 통계 응답
+     */
+    public record StatementStats(String shape, String operation, String sql, long count,
+                                 double totalMillis, double meanMillis, double maxMillis, double meanRows) {
+
+        static StatementStats from(SqlStatementShape shape) {
+            return new StatementStats(
+                    shape.getId(),
+                    shape.getOperation(),
+                    shape.getSql(),
+                    shape.getTimer().count(),
+                    shape.getTimer().totalTime(TimeUnit.MILLISECONDS),
+                    shape.getTimer().mean(TimeUnit.MILLISECONDS),
+                    shape.getTimer().max(TimeUnit.MILLISECONDS),
+                    shape.getRows().mean());
+        }
+    }
+}
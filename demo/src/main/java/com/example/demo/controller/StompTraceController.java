@@ -0,0 +1,46 @@
+package com.example.demo.controller;
+
+import com.example.demo.monitoring.StompTrace.TraceView;
+import com.example.demo.monitoring.StompTraceRecorder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * STOMP 메시지 추적 컨트롤러 (관리자 전용)
+ * 샘플링된 인바운드 메시지가 구독자에게 전달되기까지 단계별로 어디서 시간이 걸렸는지 조회
+ */
+@RestController
+@RequestMapping("/api/admin/websocket/traces")
+@Tag(name = "STOMP 추적", description = "인바운드 큐 / 핸들러 / 브로커 / 아웃바운드 전송 단계별 지연 조회 API")
+@PreAuthorize("hasRole('ADMIN')")
+public class StompTraceController {
+
+    private final StompTraceRecorder stompTraceRecorder;
+
+    public StompTraceController(StompTraceRecorder stompTraceRecorder) {
+        this.stompTraceRecorder = stompTraceRecorder;
+    }
+
+    @GetMapping
+    @Operation(summary = "최근 추적 조회", description = "샘플링된 최근 메시지의 단계별 지연(마이크로초)을 최신순으로 조회합니다")
+    public ResponseEntity<List<TraceView>> getRecentTraces(
+            @Parameter(description = "조회 개수") @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(stompTraceRecorder.recent(limit));
+    }
+
+    @GetMapping("/{traceId}")
+    @Operation(summary = "추적 단건 조회", description = "trace-id로 추적 1건의 단계별 지연과 개별 구간을 조회합니다")
+    public ResponseEntity<TraceView> getTrace(@PathVariable String traceId) {
+        return ResponseEntity.of(stompTraceRecorder.find(traceId));
+    }
+}
@@ -3,6 +3,7 @@ package com.example.demo.controller;
 import com.example.demo.dto.UserRequestDto;
 import com.example.demo.dto.UserResponseDto;
 import com.example.demo.entity.User;
+import com.example.demo.service.ResourceETagCache;
 import com.example.demo.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,6 +20,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -33,11 +35,13 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final ResourceETagCache etagCache;
 
     // 생성자 주입 (NestJS의 constructor injection과 같음)
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, ResourceETagCache etagCache) {
         this.userService = userService;
+        this.etagCache = etagCache;
     }
 
     /**
@@ -92,18 +96,19 @@ public class UserController {
     /**
      * ID로 사용자 조회
      * NestJS: @Get(':id') findOne(@Param('id') id: string)와 같음
+     * If-None-Match가 현재 ETag와 같으면 DB 조회 없이 304
      */
     @GetMapping("/{id}")
     @Operation(summary = "사용자 상세 조회", description = "ID를 사용하여 특정 사용자 정보를 조회합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "사용자 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음")
     })
     public ResponseEntity<UserResponseDto> getUserById(
-            @Parameter(description = "사용자 ID") @PathVariable Long id) {
-        return userService.getUserById(id)
-                .map(user -> ResponseEntity.ok(user))
-                .orElse(ResponseEntity.notFound().build());
+            @Parameter(description = "사용자 ID") @PathVariable Long id, WebRequest request) {
+        return ConditionalGets.get(etagCache, ResourceETagCache.userKey(id), request,
+                () -> userService.getUserById(id), ResourceETagCache::userTag);
     }
 
     /**
@@ -4,8 +4,9 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.*;
 
+import com.example.demo.service.ReservationIdempotencyStore;
+import com.example.demo.service.ResourceETagCache;
 import com.example.demo.service.ViewingReservationService;
-import com.example.demo.entity.ViewingReservation;
 import com.example.demo.entity.ViewingReservation.ReservationStatus;
 import com.example.demo.dto.ViewingReservationDto.*;
 import com.example.demo.service.UserService;
@@ -17,9 +18,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
+import java.security.Principal;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 
 
@@ -27,50 +35,74 @@ import java.util.List;
 @RequestMapping("/api/viewing-reservations")
 @Tag(name = "Viewing Reservation", description = "Viewing Reservation API")
 public class ViewingReservationController {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final ViewingReservationService viewingReservationService;
     private final UserService userService;
+    private final ResourceETagCache etagCache;
 
-    public ViewingReservationController(ViewingReservationService viewingReservationService, UserService userService) {
+    public ViewingReservationController(ViewingReservationService viewingReservationService, UserService userService,
+                                        ResourceETagCache etagCache) {
         this.viewingReservationService = viewingReservationService;
         this.userService = userService;
+        this.etagCache = etagCache;
     }
 
     @GetMapping
     @Operation(summary = "Get all viewing reservations", description = "Get all viewing reservations")
-    public ResponseEntity<Page<ViewingReservation>> findAll(PageableDto pageableDto) {
+    public ResponseEntity<Page<ViewingReservationResponseDto>> findAll(PageableDto pageableDto) {
         Pageable pageable = PageRequest.of(pageableDto.getPage(), pageableDto.getSize(), Sort.by(pageableDto.getSort()).descending());
         return ResponseEntity.ok(viewingReservationService.findAll(pageable));
     }
 
+    @GetMapping("/availability")
+    @Operation(summary = "Get free viewing slots", description = "Get slots with remaining capacity per day between from and to (inclusive, up to 31 days), optionally limited to slots starting in [fromTime, toTime); a toTime earlier than fromTime wraps past midnight")
+    public ResponseEntity<List<DayAvailabilityDto>> findAvailability(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime fromTime,
+                                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime toTime) {
+        return ResponseEntity.ok(viewingReservationService.getAvailability(from, to, fromTime, toTime));
+    }
+
     @GetMapping("/{id}")
-    @Operation(summary = "Get viewing reservation by id", description = "Get viewing reservation by id")
-    public ResponseEntity<ViewingReservation> findById(@PathVariable String id) {
-        return ResponseEntity.ok(viewingReservationService.getViewingReservationById(id));
+    @Operation(summary = "Get viewing reservation by id", description = "Get viewing reservation by id (returns 304 without loading the reservation when If-None-Match matches its ETag)")
+    public ResponseEntity<ViewingReservationResponseDto> findById(@PathVariable UUID id, WebRequest request) {
+        return ConditionalGets.get(etagCache, ResourceETagCache.reservationKey(id), request,
+                () -> Optional.of(viewingReservationService.getViewingReservationResponseById(id)), ResourceETagCache::reservationTag);
     }
 
     @GetMapping("/users/{userId}")
-    @Operation(summary = "Get viewing reservations by user id", description = "Get viewing reservations by user id")
-    public ResponseEntity<List<ViewingReservation>> findByUserId(@PathVariable Long userId, @RequestParam(required = false) ReservationStatus reservationStatus) {
-        return ResponseEntity.ok(viewingReservationService.getViewingReservationsByUserId(userId, reservationStatus));
+    @Operation(summary = "Get viewing reservations by user id", description = "Get viewing reservations by user id, ordered by reservation date and paginated with a keyset cursor")
+    public ResponseEntity<ViewingReservationSliceDto> findByUserId(@PathVariable Long userId,
+                                                                   @RequestParam(required = false) ReservationStatus reservationStatus,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(viewingReservationService.getViewingReservationsByUserId(userId, reservationStatus, cursor, size));
     }
 
     @PostMapping
-    @Operation(summary = "Create viewing reservation", description = "Create viewing reservation")
-    public ResponseEntity<ViewingReservation> create(@RequestBody CreateViewingReservationDto createViewingReservationDto) {
-        ViewingReservation viewingReservation = createViewingReservationDto.toEntity();
-        return ResponseEntity.ok(viewingReservationService.createViewingReservation(viewingReservation));
+    @Operation(summary = "Create viewing reservation", description = "Create viewing reservation. Retries with the same Idempotency-Key header return the first response")
+    public ResponseEntity<ViewingReservationResponseDto> create(@RequestBody CreateViewingReservationDto createViewingReservationDto,
+                                                               @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                               Principal principal) {
+        // 타임아웃 후 재시도해도 같은 키면 예매가 중복 생성되지 않고 처음 응답을 돌려받는다
+        ReservationIdempotencyStore.Result result = viewingReservationService.createViewingReservation(
+                principal.getName(), idempotencyKey, createViewingReservationDto);
+        return ResponseEntity.ok()
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.response());
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Update viewing reservation", description = "Update viewing reservation")
-    public ResponseEntity<ViewingReservation> update(@PathVariable String id, @RequestBody ViewingReservation viewingReservation) {
-        // ViewingReservation viewingReservation = updateViewingReservationDto.toEntity(id);
-        return ResponseEntity.ok(viewingReservationService.updateViewingReservation(id, viewingReservation));
+    @Operation(summary = "Update viewing reservation", description = "Update viewing reservation. The version from the last read is required; a stale version returns 409")
+    public ResponseEntity<ViewingReservationResponseDto> update(@PathVariable UUID id, @RequestBody UpdateViewingReservationDto updateViewingReservationDto) {
+        return ResponseEntity.ok(viewingReservationService.updateViewingReservation(id, updateViewingReservationDto));
     }
     
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete viewing reservation", description = "Delete viewing reservation")
-    public ResponseEntity<Void> delete(@PathVariable String id) {
+    public ResponseEntity<Void> delete(@PathVariable UUID id) {
         viewingReservationService.deleteViewingReservation(id);
         return ResponseEntity.noContent().build();
     }
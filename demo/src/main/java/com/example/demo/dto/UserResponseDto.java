@@ -58,6 +58,11 @@ public class UserResponseDto {
         );
     }
 
+    // 같은 조회 결과를 여러 요청에 나눠 줄 때 (UserService single-flight) 인스턴스를 공유하지 않기 위한 복사
+    public UserResponseDto copy() {
+        return new UserResponseDto(id, username, email, role, createdAt, updatedAt);
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
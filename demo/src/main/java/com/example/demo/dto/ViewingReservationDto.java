@@ -6,7 +6,16 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.domain.Slice;
 
 import com.example.demo.entity.ViewingReservation;
 import com.example.demo.entity.User;
@@ -50,6 +59,223 @@ public class ViewingReservationDto {
         }
     }
 
+    @Schema(description = "Viewing Reservation Response")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ViewingReservationResponseDto {
+        @Schema(description = "Reservation ID", example = "01929b3c-5e7a-7c3e-9f1d-2b6a4c8e0f13")
+        private UUID id;
+
+        @Schema(description = "User ID", example = "1")
+        private Long userId;
+
+        @Schema(description = "Username", example = "john_doe")
+        private String username;
+
+        @Schema(description = "Status", example = "PENDING")
+        private ReservationStatus status;
+
+        @Schema(description = "Reservation Date", example = "2025-01-01 10:00:00")
+        private LocalDateTime reservationDate;
+
+        @Schema(description = "Created At", example = "2025-01-01 10:00:00")
+        private LocalDateTime createdAt;
+
+        @Schema(description = "Version (send back unchanged when updating)", example = "0")
+        private Long version;
+
+        // 연관된 User가 이미 로딩된 엔티티(fetch join / entity graph)에서 변환
+        public static ViewingReservationResponseDto fromEntity(ViewingReservation viewingReservation) {
+            User user = viewingReservation.getUser();
+            return new ViewingReservationResponseDto(
+                viewingReservation.getId(),
+                user != null ? user.getId() : null,
+                user != null ? user.getUsername() : null,
+                viewingReservation.getStatus(),
+                viewingReservation.getReservationDate(),
+                viewingReservation.getCreatedAt(),
+                viewingReservation.getVersion()
+            );
+        }
+    }
+
+    @Schema(description = "Viewing Reservation Slice (keyset pagination)")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ViewingReservationSliceDto {
+        @Schema(description = "Reservations ordered by reservation date")
+        private List<ViewingReservationResponseDto> content;
+
+        @Schema(description = "Whether more reservations exist after this slice", example = "true")
+        private boolean hasNext;
+
+        @Schema(description = "Opaque cursor for the next slice (null when hasNext is false)")
+        private String nextCursor;
+
+        public static ViewingReservationSliceDto of(Slice<ViewingReservationResponseDto> slice) {
+            List<ViewingReservationResponseDto> content = slice.getContent();
+            String nextCursor = null;
+            if (slice.hasNext() && !content.isEmpty()) {
+                ViewingReservationResponseDto last = content.get(content.size() - 1);
+                nextCursor = ReservationCursor.encode(last.getReservationDate(), last.getId());
+            }
+            return new ViewingReservationSliceDto(content, slice.hasNext(), nextCursor);
+        }
+    }
+
+    @Schema(description = "Viewing Reservation status change pushed to /user/queue/reservations")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReservationStatusMessage {
+        @Schema(description = "Reservation ID", example = "01929b3c-5e7a-7c3e-9f1d-2b6a4c8e0f13")
+        private UUID id;
+
+        @Schema(description = "Previous Status", example = "PENDING")
+        private ReservationStatus previousStatus;
+
+        @Schema(description = "Status", example = "CONFIRMED")
+        private ReservationStatus status;
+
+        @Schema(description = "Changed At", example = "2025-01-01 10:00:00")
+        private LocalDateTime changedAt;
+    }
+
+    @Schema(description = "Free viewing slots of a day")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DayAvailabilityDto {
+        @Schema(description = "Date", example = "2025-01-01")
+        private LocalDate date;
+
+        @Schema(description = "Start times of slots that still have capacity", example = "[\"10:00:00\", \"10:30:00\"]")
+        private List<LocalTime> freeSlots;
+    }
+
+    @Schema(description = "Reservation counts by status")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReservationStatsDto {
+        @Schema(description = "Count per status", example = "{\"PENDING\": 12, \"CONFIRMED\": 240, \"CANCELLED\": 31}")
+        private Map<ReservationStatus, Long> byStatus;
+
+        @Schema(description = "Total reservations", example = "283")
+        private long total;
+
+        @Schema(description = "When the counters were last rebuilt from the table", example = "2025-01-01 10:00:00")
+        private LocalDateTime rebuiltAt;
+    }
+
+    @Schema(description = "Reservation counts of a reservation day by status")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyReservationStatsDto {
+        @Schema(description = "Reservation day", example = "2025-01-01")
+        private LocalDate date;
+
+        @Schema(description = "Count per status")
+        private Map<ReservationStatus, Long> byStatus;
+    }
+
+    @Schema(description = "Reservation counts of a user by status")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UserReservationStatsDto {
+        @Schema(description = "User ID", example = "1")
+        private Long userId;
+
+        @Schema(description = "Count per status")
+        private Map<ReservationStatus, Long> byStatus;
+    }
+
+    @Schema(description = "Bulk status transition request")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkStatusUpdateDto {
+        @Schema(description = "Reservation IDs (up to 5000)", example = "[\"01929b3c-5e7a-7c3e-9f1d-2b6a4c8e0f13\"]")
+        private List<UUID> ids;
+
+        @Schema(description = "Target status", example = "CONFIRMED")
+        private ReservationStatus status;
+    }
+
+    @Schema(description = "Per-id result of a bulk status transition")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkStatusItemResultDto {
+        @Schema(description = "Reservation ID", example = "01929b3c-5e7a-7c3e-9f1d-2b6a4c8e0f13")
+        private UUID id;
+
+        @Schema(description = "Outcome", example = "UPDATED")
+        private BulkStatusOutcome outcome;
+
+        @Schema(description = "Status before the transition (null when not found)", example = "PENDING")
+        private ReservationStatus previousStatus;
+
+        @Schema(description = "Version after the transition (null when not updated)", example = "1")
+        private Long version;
+    }
+
+    public enum BulkStatusOutcome {
+        UPDATED,    // 상태 변경됨
+        UNCHANGED,  // 이미 요청한 상태
+        NOT_FOUND,  // 존재하지 않는 예매
+        CONFLICT,   // 검증 후 다른 요청이 먼저 수정함 (버전 불일치)
+        SLOT_FULL   // 취소 해제 시 시간대 정원 초과
+    }
+
+    @Schema(description = "Bulk status transition result")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkStatusUpdateResultDto {
+        @Schema(description = "Distinct ids requested", example = "1000")
+        private int requested;
+
+        @Schema(description = "Rows updated", example = "998")
+        private int updated;
+
+        @Schema(description = "Elapsed time in milliseconds", example = "142")
+        private long elapsedMillis;
+
+        @Schema(description = "Processed rows per second", example = "7042.3")
+        private double rowsPerSecond;
+
+        @Schema(description = "Per-id results in request order")
+        private List<BulkStatusItemResultDto> results;
+    }
+
+    /**
+     * 키셋 페이지네이션 커서 (마지막 행의 예매일시 + ID)
+     * 클라이언트에는 Base64URL 문자열로만 노출한다
+     */
+    public record ReservationCursor(LocalDateTime reservationDate, UUID id) {
+        private static final String SEPARATOR = "|";
+
+        public static String encode(LocalDateTime reservationDate, UUID id) {
+            String raw = reservationDate + SEPARATOR + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static ReservationCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(SEPARATOR);
+                return new ReservationCursor(LocalDateTime.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+    }
+
     @Schema(description = "Update Viewing Reservation", required = true)
     @Data
     @NoArgsConstructor
@@ -61,12 +287,7 @@ public class ViewingReservationDto {
         @Schema(description = "Status", example = "PENDING")
         private ReservationStatus status;
 
-        public ViewingReservation toEntity(String id) {
-            return ViewingReservation.builder()
-                .id(id)
-                .reservationDate(this.reservationDate)
-                .status(this.status)
-                .build();
-        }
+        @Schema(description = "Version read from the reservation (optimistic locking)", example = "0", requiredMode = Schema.RequiredMode.REQUIRED)
+        private Long version;
     }
 }
@@ -0,0 +1,57 @@
+package com.example.demo.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.example.demo.entity.ViewingReservation.ReservationStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 영화 예매 상태 변경 아웃박스
+ * 상태 변경과 같은 트랜잭션에 기록되고, 커밋 후 WebSocket으로 전송되면 삭제된다.
+ * 전송 전에 서버가 죽어도 행이 남아 있으므로 다음 주기에 다시 전송된다 (at-least-once).
+ */
+@Entity
+@Table(name = "reservation_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "reservation_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID reservationId;
+
+    // 수신자 조회용. 예매 엔티티를 다시 읽지 않도록 사용자 ID만 보관
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status")
+    private ReservationStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ReservationStatus status;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,64 @@
+package com.example.demo.entity;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * RFC 9562 UUID version 7 생성기
+ *
+ * 상위 48비트: Unix epoch 밀리초
+ * 다음 12비트(rand_a): 같은 밀리초 안에서 증가하는 카운터 (단조 증가 보장)
+ * 나머지 62비트(rand_b): 난수
+ *
+ * 바이트 순서대로 비교해도 생성 순서가 유지되므로 BINARY(16) 컬럼에서 삽입 위치가 항상 인덱스 끝이 된다.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final long MAX_SEQUENCE = 0xFFF;
+
+    // 상위 52비트: 밀리초, 하위 12비트: 밀리초 내 순번
+    private static final AtomicLong LAST_TICK = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    public static UUID next() {
+        long tick = nextTick();
+        long millis = tick >>> 12;
+        long sequence = tick & MAX_SEQUENCE;
+
+        long mostSigBits = (millis << 16) | 0x7000L | sequence;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * 현재 밀리초와 순번을 CAS로 발급
+     * 한 밀리초에 4096개를 넘기면 다음 밀리초 값을 미리 빌려 쓴다 (시계가 따라잡을 때까지 순서 유지)
+     */
+    private static long nextTick() {
+        while (true) {
+            long last = LAST_TICK.get();
+            long now = System.currentTimeMillis() << 12;
+            long next = now > last ? now : last + 1;
+            if (LAST_TICK.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -8,6 +8,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -30,6 +34,9 @@ import java.util.List;
  */
 @Entity
 @Table(name = "users") // NestJS TypeORM의 @Entity("users")와 같음
+@Cacheable // 2차 캐시 대상 엔티티 (ENABLE_SELECTIVE 모드)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-natural-id") // 사용자명 -> id 조회 결과 캐시
 @Schema(description = "사용자 정보") // NestJS Swagger의 @ApiProperty()와 비슷
 @Data // Lombok: 모든 Getter, Setter, toString, equals, hashCode 자동 생성!
 @NoArgsConstructor // Lombok: 기본 생성자 자동 생성 (JPA 필수)
@@ -42,6 +49,7 @@ public class User implements UserDetails {
     @Schema(description = "사용자 ID", example = "1")
     private Long id;
 
+    @NaturalId(mutable = true) // 사용자명은 수정 가능한 자연 키 (인증 시 조회 키)
     @Column(unique = true, nullable = false) // NestJS의 @Column({ unique: true })와 같음
     @NotBlank(message = "사용자명은 필수입니다") // NestJS의 class-validator와 비슷
     @Size(min = 3, max = 50, message = "사용자명은 3-50자 사이여야 합니다")
@@ -1,26 +1,45 @@
 package com.example.demo.entity;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.PrePersist;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
-@Table(name = "viewing_reservations")
+@Table(name = "viewing_reservations", indexes = {
+    // 사용자+상태별 예매 목록을 예매일시 순으로 키셋 페이지네이션할 때 사용
+    @Index(name = "idx_viewing_reservations_user_status_date", columnList = "user_id, status, reservation_date"),
+    // 상태 조건 없는 사용자별 예매 목록용. 보조 인덱스 끝에 PK(id)가 붙으므로 (reservation_date, id) 정렬까지 인덱스 순서로 읽는다
+    @Index(name = "idx_viewing_reservations_user_date", columnList = "user_id, reservation_date"),
+    // 오래된 PENDING 예매를 만료 처리할 때 생성일시 순으로 범위 스캔
+    @Index(name = "idx_viewing_reservations_status_created", columnList = "status, created_at"),
+    // 예매일시 범위로 내보내기(export)할 때 범위 스캔 + 정렬 없이 순서대로 읽기
+    @Index(name = "idx_viewing_reservations_reservation_date", columnList = "reservation_date")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "viewing-reservations")
 @Schema(description = "영화 예매 정보")
 @Data
 @NoArgsConstructor
@@ -28,11 +47,13 @@ import jakarta.persistence.PrePersist;
 @Builder
 public class ViewingReservation {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Schema(description = "영화 예매 ID", example = "123e4567-e89b-12d3-a456-426614174000")
-    private String id;
+    @TimeOrderedUuid // 시간순 UUID(v7): 삽입이 클러스터드 인덱스 끝에 몰려 페이지 분할이 적다
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", columnDefinition = "BINARY(16)", nullable = false, updatable = false)
+    @Schema(description = "영화 예매 ID", example = "01929b3c-5e7a-7c3e-9f1d-2b6a4c8e0f13")
+    private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY) // 목록 조회 시 사용자별 추가 SELECT(N+1)를 막기 위해 지연 로딩
     @JoinColumn(name = "user_id")
     @Schema(description = "사용자")
     private User user;
@@ -51,6 +72,12 @@ public class ViewingReservation {
     @Schema(description = "생성일시", example = "2025-01-01 10:00:00")
     private LocalDateTime createdAt;
 
+    @Version // 낙관적 락: 동시 수정은 비관적 락 대기 없이 커밋 시점에 충돌로 실패
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    @Schema(description = "버전 (수정 시 그대로 보내야 함)", example = "0")
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
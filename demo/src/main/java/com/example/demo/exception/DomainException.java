@@ -0,0 +1,32 @@
+package com.example.demo.exception;
+
+/**
+ * 예상 가능한 도메인 오류(없는 리소스, 중복, 정원 초과 등)의 상위 예외
+ * GlobalExceptionHandler에서 ErrorCode의 상태 / 메시지로 변환된다
+ *
+ * 정상 흐름의 일부라서 스택 트레이스가 필요 없으므로 만들지 않는다 (writableStackTrace = false).
+ * 404/409가 몰려도 예외 생성 비용이 일반 객체 생성과 비슷하다.
+ * 메시지는 ErrorCode의 고정 문자열이고, 어떤 대상에서 발생했는지는 subject로만 들고 있다 (문자열 조합 없음).
+ */
+public class DomainException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+    private final transient Object subject;
+
+    public DomainException(ErrorCode errorCode, Object subject) {
+        super(errorCode.getMessage(), null, false, false);
+        this.errorCode = errorCode;
+        this.subject = subject;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * 오류 대상 (사용자 ID, 사용자명, 시간대 등)
+     */
+    public Object getSubject() {
+        return subject;
+    }
+}
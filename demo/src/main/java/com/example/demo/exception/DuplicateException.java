@@ -0,0 +1,20 @@
+package com.example.demo.exception;
+
+/**
+ * 유일해야 하는 값(사용자명, 이메일)이 이미 있을 때 발생 (409 CONFLICT)
+ * NestJS의 ConflictException과 비슷
+ */
+public class DuplicateException extends DomainException {
+
+    public DuplicateException(ErrorCode errorCode, Object subject) {
+        super(errorCode, subject);
+    }
+
+    public static DuplicateException username(String username) {
+        return new DuplicateException(ErrorCode.DUPLICATE_USERNAME, username);
+    }
+
+    public static DuplicateException email(String email) {
+        return new DuplicateException(ErrorCode.DUPLICATE_EMAIL, email);
+    }
+}
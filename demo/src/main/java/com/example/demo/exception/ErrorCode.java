@@ -0,0 +1,34 @@
+package com.example.demo.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 도메인 오류 코드
+ * 응답 상태 / 코드 / 메시지를 미리 정해 두어 오류 응답을 만들 때 문자열 조합이 필요 없다.
+ * NestJS에서 HttpException 서브클래스마다 상태와 메시지를 고정해 두는 것과 비슷
+ */
+public enum ErrorCode {
+
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다"),
+    VIEWING_RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "예매를 찾을 수 없습니다"),
+    DUPLICATE_USERNAME(HttpStatus.CONFLICT, "이미 존재하는 사용자명입니다"),
+    DUPLICATE_EMAIL(HttpStatus.CONFLICT, "이미 존재하는 이메일입니다"),
+    SLOT_FULL(HttpStatus.CONFLICT, "해당 시간대의 예매가 마감되었습니다"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key가 다른 요청에 이미 사용되었습니다");
+
+    private final HttpStatus status;
+    private final String message;
+
+    ErrorCode(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
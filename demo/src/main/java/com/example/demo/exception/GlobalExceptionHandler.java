@@ -1,5 +1,6 @@
 package com.example.demo.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -10,10 +11,13 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import com.example.demo.controller.UserController;
 import io.swagger.v3.oas.annotations.Hidden;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -26,6 +30,15 @@ import java.util.Map;
 @RestControllerAdvice() // NestJS의 @Catch() 데코레이터와 비슷
 public class GlobalExceptionHandler {
 
+    // 오류 코드 -> 미리 만든 응답 본문 (생성 시 모두 채우고 이후에는 읽기만 하므로 EnumMap으로 충분)
+    private final Map<ErrorCode, PrebuiltErrorBody> prebuiltBodies = new EnumMap<>(ErrorCode.class);
+
+    public GlobalExceptionHandler() {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            prebuiltBodies.put(errorCode, new PrebuiltErrorBody(errorCode));
+        }
+    }
+
     /**
      * 유효성 검증 실패 예외 처리
      * NestJS의 ValidationPipe 예외 처리와 비슷
@@ -79,6 +92,50 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
     }
 
+    /**
+     * 경로/쿼리 파라미터 형식 오류 처리 (예: UUID가 아닌 예매 ID)
+     * NestJS의 ParseUUIDPipe 예외와 비슷
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatchException(MethodArgumentTypeMismatchException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "INVALID_PARAMETER",
+                "잘못된 파라미터 형식입니다: " + ex.getName(),
+                null,
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * 도메인 예외 처리 (없는 리소스 404, 중복 / 정원 초과 409, Idempotency-Key 재사용 422)
+     * NestJS의 NotFoundException / ConflictException과 비슷
+     *
+     * 응답 본문은 오류 코드별로 미리 만들어 두고 초 단위로만 timestamp를 갱신해 재사용한다.
+     * 예외도 스택 트레이스를 만들지 않으므로 404/409가 몰려도 요청당 추가 할당이 거의 없다.
+     * ErrorResponse는 불변이라 여러 요청이 같은 객체를 받아도 안전하다.
+     */
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ErrorResponse> handleDomainException(DomainException ex) {
+        ErrorCode errorCode = ex.getErrorCode();
+        return new ResponseEntity<>(prebuiltBodies.get(errorCode).current(), errorCode.getStatus());
+    }
+
+    /**
+     * 낙관적 락 충돌 처리 (다른 요청이 먼저 수정함)
+     * NestJS의 ConflictException과 비슷
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "VERSION_CONFLICT",
+                "다른 요청이 먼저 수정했습니다. 최신 데이터를 다시 조회한 뒤 시도해주세요",
+                null,
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     /**
      * 런타임 예외 처리
      * NestJS의 BadRequestException과 비슷
@@ -109,56 +166,67 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * 오류 코드 1개의 재사용 응답 본문 (같은 초 안에서는 같은 객체를 돌려준다)
+     */
+    private static final class PrebuiltErrorBody {
+        private final ErrorCode errorCode;
+        private volatile Stamped stamped = new Stamped(-1, null);
+
+        PrebuiltErrorBody(ErrorCode errorCode) {
+            this.errorCode = errorCode;
+        }
+
+        ErrorResponse current() {
+            long second = System.currentTimeMillis() / 1000;
+            Stamped snapshot = stamped;
+            if (snapshot.second() == second) {
+                return snapshot.body();
+            }
+            // 경합 시 여러 스레드가 새로 만들 수 있지만 결과가 같으므로 마지막 값이 남아도 무방하다
+            ErrorResponse body = new ErrorResponse(errorCode.name(), errorCode.getMessage(), null,
+                    LocalDateTime.now().withNano(0));
+            stamped = new Stamped(second, body);
+            return body;
+        }
+
+        private record Stamped(long second, ErrorResponse body) {
+        }
+    }
+
     /**
      * 에러 응답 DTO
      * NestJS의 error response interface와 동일한 역할
+     * 도메인 오류 응답은 요청 간에 공유되므로 불변으로 둔다 (setter 없음, details는 읽기 전용)
      */
-    public static class ErrorResponse {
-        private String code;
-        private String message;
-        private Map<String, String> details;
-        private LocalDateTime timestamp;
-
-        public ErrorResponse() {}
+    public static final class ErrorResponse {
+        private final String code;
+        private final String message;
+        private final Map<String, String> details;
+        private final LocalDateTime timestamp;
 
         public ErrorResponse(String code, String message, Map<String, String> details, LocalDateTime timestamp) {
             this.code = code;
             this.message = message;
-            this.details = details;
+            this.details = details != null ? Collections.unmodifiableMap(details) : null;
             this.timestamp = timestamp;
         }
 
-        // Getters and Setters
+        // Getters
         public String getCode() {
             return code;
         }
 
-        public void setCode(String code) {
-            this.code = code;
-        }
-
         public String getMessage() {
             return message;
         }
 
-        public void setMessage(String message) {
-            this.message = message;
-        }
-
         public Map<String, String> getDetails() {
             return details;
         }
 
-        public void setDetails(Map<String, String> details) {
-            this.details = details;
-        }
-
         public LocalDateTime getTimestamp() {
             return timestamp;
         }
-
-        public void setTimestamp(LocalDateTime timestamp) {
-            this.timestamp = timestamp;
-        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.example.demo.exception;
+
+/**
+ * 같은 Idempotency-Key로 다른 요청 본문을 보냈을 때 발생
+ * GlobalExceptionHandler에서 422 UNPROCESSABLE_ENTITY로 변환된다
+ */
+public class IdempotencyKeyReusedException extends DomainException {
+
+    public IdempotencyKeyReusedException(String idempotencyKey) {
+        super(ErrorCode.IDEMPOTENCY_KEY_REUSED, idempotencyKey);
+    }
+}
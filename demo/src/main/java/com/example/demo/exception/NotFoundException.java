@@ -0,0 +1,20 @@
+package com.example.demo.exception;
+
+/**
+ * 조회 대상이 없을 때 발생 (404 NOT_FOUND)
+ * NestJS의 NotFoundException과 비슷
+ */
+public class NotFoundException extends DomainException {
+
+    public NotFoundException(ErrorCode errorCode, Object subject) {
+        super(errorCode, subject);
+    }
+
+    public static NotFoundException user(Long id) {
+        return new NotFoundException(ErrorCode.USER_NOT_FOUND, id);
+    }
+
+    public static NotFoundException viewingReservation(Object id) {
+        return new NotFoundException(ErrorCode.VIEWING_RESERVATION_NOT_FOUND, id);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.exception;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예매하려는 시간대가 이미 정원에 도달했을 때 발생
+ * GlobalExceptionHandler에서 409 CONFLICT로 변환된다
+ */
+public class SlotFullException extends DomainException {
+
+    public SlotFullException(LocalDateTime slot) {
+        super(ErrorCode.SLOT_FULL, slot);
+    }
+
+    public LocalDateTime getSlot() {
+        return (LocalDateTime) getSubject();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.logging;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그 레벨을 DEBUG로 올릴 요청 ID 목록 (만료 시각 포함)
+ * logback TurboFilter는 Spring 빈이 아니므로 정적 저장소로 둔다.
+ * 등록된 ID가 없을 때는 TurboFilter가 volatile 읽기 한 번으로 바로 통과시킨다.
+ *
+ * 등록 수(ESCALATED)는 맵의 키별 잠금(compute) 안에서만 증감하므로 맵 크기와 어긋나지 않는다.
+ * (삭제 후 isEmpty로 플래그를 다시 계산하면 동시에 들어온 등록을 덮어써 INFO에 머무를 수 있다)
+ */
+public final class LogEscalationRegistry {
+
+    private static final Map<String, Long> EXPIRES_AT = new ConcurrentHashMap<>();
+    private static final AtomicInteger ESCALATED = new AtomicInteger();
+
+    private LogEscalationRegistry() {
+    }
+
+    public static void escalate(String requestId, Duration ttl) {
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        EXPIRES_AT.compute(requestId, (id, previous) -> {
+            if (previous == null) {
+                ESCALATED.incrementAndGet();
+            }
+            return expiresAt;
+        });
+    }
+
+    public static void clear(String requestId) {
+        EXPIRES_AT.computeIfPresent(requestId, (id, expiresAt) -> {
+            ESCALATED.decrementAndGet();
+            return null;
+        });
+    }
+
+    public static boolean isActive() {
+        return ESCALATED.get() > 0;
+    }
+
+    public static boolean isEscalated(String requestId) {
+        Long expiresAt = EXPIRES_AT.get(requestId);
+        if (expiresAt == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (expiresAt < now) {
+            removeIfExpired(requestId, now);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 요청 ID -> 남은 시간(ms), 만료된 항목은 정리
+     */
+    public static Map<String, Long> snapshot() {
+        long now = System.currentTimeMillis();
+        EXPIRES_AT.keySet().forEach(requestId -> removeIfExpired(requestId, now));
+        Map<String, Long> remaining = new TreeMap<>();
+        EXPIRES_AT.forEach((requestId, expiresAt) -> remaining.put(requestId, expiresAt - now));
+        return remaining;
+    }
+
+    /**
+     * 만료된 경우에만 제거 (그 사이 다시 등록되어 만료 시각이 늘어났으면 유지)
+     */
+    private static void removeIfExpired(String requestId, long now) {
+        EXPIRES_AT.computeIfPresent(requestId, (id, expiresAt) -> {
+            if (expiresAt >= now) {
+                return expiresAt;
+            }
+            ESCALATED.decrementAndGet();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * 요청 단위 로그 레벨 상향
+ * MDC의 requestId가 LogEscalationRegistry에 등록되어 있으면 로거 레벨과 무관하게 DEBUG 이상을 남긴다.
+ * 다른 요청/스레드는 영향을 받지 않는다.
+ */
+public class RequestLogEscalationTurboFilter extends TurboFilter {
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!LogEscalationRegistry.isActive() || !level.isGreaterOrEqual(Level.DEBUG)) {
+            return FilterReply.NEUTRAL;
+        }
+        String requestId = MDC.get(RequestIdFilter.MDC_KEY);
+        if (requestId != null && LogEscalationRegistry.isEscalated(requestId)) {
+            return FilterReply.ACCEPT;
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
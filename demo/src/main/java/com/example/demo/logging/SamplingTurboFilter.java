@@ -0,0 +1,88 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시끄러운 로거 카테고리의 로그 유량 제한 + 샘플링
+ * 지정한 접두사(loggerPrefix)의 로거마다 1초에 permitsPerSecond건까지는 그대로 남기고,
+ * 넘는 로그는 sampleRate건 중 1건만 남긴다. WARN 이상은 항상 남긴다.
+ *
+ * 로거별 카운터는 AtomicLong CAS로만 갱신하므로 잠금이 없다.
+ *
+ * logback-spring.xml 예:
+ * <turboFilter class="com.example.demo.logging.SamplingTurboFilter">
+ *     <loggerPrefix>org.springframework.security</loggerPrefix>
+ *     <permitsPerSecond>20</permitsPerSecond>
+ *     <sampleRate>100</sampleRate>
+ * </turboFilter>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final List<String> loggerPrefixes = new ArrayList<>();
+    private long permitsPerSecond = 20;
+    private long sampleRate = 100;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isDebugEnabled() 같은 레벨 확인 호출(format == null)이나 어차피 버려질 레벨은 세지 않는다
+        if (format == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        long count = windows.computeIfAbsent(logger.getName(), name -> new Window()).next();
+        if (count <= permitsPerSecond) {
+            return FilterReply.NEUTRAL;
+        }
+        return (count - permitsPerSecond) % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean matches(String loggerName) {
+        for (String prefix : loggerPrefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void addLoggerPrefix(String loggerPrefix) {
+        loggerPrefixes.add(loggerPrefix);
+    }
+
+    public void setPermitsPerSecond(long permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public void setSampleRate(long sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+
+    /**
+     * 1초 단위 고정 윈도우 카운터
+     */
+    private static final class Window {
+        private final AtomicLong second = new AtomicLong();
+        private final AtomicLong count = new AtomicLong();
+
+        long next() {
+            long now = System.currentTimeMillis() / 1000;
+            long current = second.get();
+            if (current != now && second.compareAndSet(current, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 로그인(사용자명/비밀번호 인증) 1건에 대한 JFR 이벤트
+ * 프로파일에서 보이는 BCrypt CPU 시간을 인증 요청 단위로 묶어 볼 수 있다
+ */
+@Name("com.example.demo.Authentication")
+@Label("Authentication")
+@Category({"Demo", "Security"})
+@Description("DaoAuthenticationProvider authentication (user lookup + password check)")
+@StackTrace(false)
+public class AuthenticationJfrEvent extends jdk.jfr.Event {
+
+    @Label("Username")
+    String username;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Failure")
+    String failure;
+}
@@ -0,0 +1,49 @@
+package com.example.demo.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 링 버퍼
+ * 기록은 락 없이 시퀀스 증가 + 슬롯 덮어쓰기로 끝나므로 요청 스레드에서 호출해도 부담이 없다.
+ * 가득 차면 가장 오래된 항목부터 덮어쓴다.
+ */
+public class BoundedEventBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public BoundedEventBuffer(int capacity) {
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void add(T event) {
+        long index = sequence.getAndIncrement();
+        slots.set((int) (index % slots.length()), event);
+    }
+
+    /**
+     * 최신 항목부터 정렬된 스냅샷
+     */
+    public List<T> snapshot() {
+        long end = sequence.get();
+        long start = Math.max(0, end - slots.length());
+        List<T> result = new ArrayList<>((int) (end - start));
+        for (long i = end - 1; i >= start; i--) {
+            T event = slots.get((int) (i % slots.length()));
+            if (event != null) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 지금까지 기록된 전체 건수 (덮어써진 항목 포함)
+     */
+    public long totalRecorded() {
+        return sequence.get();
+    }
+}
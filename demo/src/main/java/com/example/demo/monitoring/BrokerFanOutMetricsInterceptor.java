@@ -0,0 +1,108 @@
+package com.example.demo.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 브로커 채널(brokerChannel) 목적지별 메시지 수 / 팬아웃 시간 기록
+ * brokerChannel은 실행기 없이 동기로 동작하므로 send 전후 시간이 곧 SimpleBroker가
+ * 구독자 전원에게 메시지를 나눠 보내는(clientOutboundChannel에 넣는) 시간이다.
+ *
+ * 사용자 목적지는 사용자 이름이나 세션 ID가 태그에 들어가지 않게 한다.
+ * - convertAndSendToUser가 먼저 보내는 /user/{username}/queue/... 는 세지 않는다 (UserDestinationMessageHandler가 세션별로 다시 보낸다)
+ * - 세션별로 다시 보낸 /queue/private-user{세션} 은 구독 목적지 원형(simpOrigDestination 헤더, 예: /user/queue/private)으로 기록한다
+ * 목적지 종류가 MAX_DESTINATIONS를 넘으면 나머지는 "other"로 묶는다.
+ * 목적지별 미터는 한 번 만든 뒤 ConcurrentHashMap에서 잠금 없이 재사용한다.
+ */
+public class BrokerFanOutMetricsInterceptor implements ChannelInterceptor {
+
+    private static final int MAX_DESTINATIONS = 200;
+    private static final String OTHER = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final String userDestinationPrefix;
+    private final Map<String, DestinationMeters> meters = new ConcurrentHashMap<>();
+
+    // 사용자 목적지 처리 시 같은 스레드에서 brokerChannel로 다시 보내므로(중첩 send) 스택으로 보관
+    private final ThreadLocal<ArrayDeque<long[]>> startedAt = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public BrokerFanOutMetricsInterceptor(MeterRegistry meterRegistry, String userDestinationPrefix) {
+        this.meterRegistry = meterRegistry;
+        this.userDestinationPrefix = userDestinationPrefix.endsWith("/") ? userDestinationPrefix : userDestinationPrefix + "/";
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        startedAt.get().push(new long[] {System.nanoTime()});
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        long[] started = startedAt.get().poll();
+        if (started == null || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return;
+        }
+        String destination = normalize(SimpMessageHeaderAccessor.getDestination(message.getHeaders()),
+                SimpMessageHeaderAccessor.getFirstNativeHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION, message.getHeaders()),
+                userDestinationPrefix);
+        if (destination == null) {
+            return;
+        }
+        DestinationMeters destinationMeters = metersFor(destination);
+        destinationMeters.messages.increment();
+        destinationMeters.fanOut.record(System.nanoTime() - started[0], TimeUnit.NANOSECONDS);
+    }
+
+    private DestinationMeters metersFor(String destination) {
+        DestinationMeters existing = meters.get(destination);
+        if (existing != null) {
+            return existing;
+        }
+        if (meters.size() >= MAX_DESTINATIONS) {
+            return meters.computeIfAbsent(OTHER, this::register);
+        }
+        return meters.computeIfAbsent(destination, this::register);
+    }
+
+    private DestinationMeters register(String destination) {
+        return new DestinationMeters(
+                Counter.builder("websocket.broker.messages")
+                        .description("Messages published to the broker per destination")
+                        .tag("destination", destination)
+                        .register(meterRegistry),
+                Timer.builder("websocket.broker.fanout")
+                        .description("Time for the broker to dispatch a message to all subscribers of a destination")
+                        .tag("destination", destination)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+    }
+
+    /**
+     * 메트릭 태그로 쓸 목적지. null이면 기록하지 않는다
+     * @param originalDestination 사용자 목적지를 세션별로 풀어 보낸 메시지의 구독 목적지 (그 외에는 null)
+     */
+    static String normalize(String destination, String originalDestination, String userDestinationPrefix) {
+        if (originalDestination != null) {
+            return originalDestination;
+        }
+        if (destination == null || destination.startsWith(userDestinationPrefix)) {
+            return null;
+        }
+        return destination;
+    }
+
+    private record DestinationMeters(Counter messages, Timer fanOut) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * brokerChannel로 보낸 메시지 1건(SimpMessagingTemplate 전송, @SendTo 반환값)에 대한 JFR 이벤트
+ * 기간에는 구독자 팬아웃 시간이 포함된다
+ */
+@Name("com.example.demo.BrokerSend")
+@Label("Broker Send")
+@Category({"Demo", "WebSocket"})
+@Description("Message sent to the broker channel, including subscriber fan-out")
+@StackTrace(false)
+public class BrokerSendJfrEvent extends jdk.jfr.Event {
+
+    @Label("Destination")
+    String destination;
+
+    @Label("Payload Size")
+    @DataAmount
+    long payloadBytes;
+
+    @Label("Sent")
+    boolean sent;
+}
@@ -0,0 +1,42 @@
+package com.example.demo.monitoring;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import java.util.ArrayDeque;
+
+/**
+ * brokerChannel로 보내는 메시지마다 BrokerSendJfrEvent를 남긴다
+ * BrokerFanOutMetricsInterceptor와 같은 이유로(사용자 목적지의 중첩 send) 스레드별 스택에 보관한다.
+ */
+public class BrokerSendJfrInterceptor implements ChannelInterceptor {
+
+    private final ThreadLocal<ArrayDeque<BrokerSendJfrEvent>> started = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        BrokerSendJfrEvent event = new BrokerSendJfrEvent();
+        event.begin();
+        started.get().push(event);
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        BrokerSendJfrEvent event = started.get().poll();
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()
+                && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+            event.destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            event.payloadBytes = message.getPayload() instanceof byte[] bytes ? bytes.length : -1;
+            event.sent = sent;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 채널 실행기(ThreadPoolTaskExecutor)의 작업별 대기 시간 / 실행 시간 기록
+ * 작업이 큐에 들어갈 때(decorate) 시각을 잡고, 실행 시작/종료 시각과의 차이를 Timer에 기록한다.
+ * 잠금 없이 nanoTime 세 번과 Timer 기록 두 번만 추가된다.
+ *
+ * Timer는 첫 작업이 들어올 때 만든다 (실행기 빈 생성 시점에는 MeterRegistry가 아직 준비되지 않았을 수 있음)
+ */
+class ChannelTaskTimingDecorator implements TaskDecorator {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String channel;
+
+    private volatile Timer waitTimer;
+    private volatile Timer executionTimer;
+
+    ChannelTaskTimingDecorator(ObjectProvider<MeterRegistry> meterRegistry, String channel) {
+        this.meterRegistry = meterRegistry;
+        this.channel = channel;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        long queuedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            waitTimer().record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+            try {
+                runnable.run();
+            } finally {
+                executionTimer().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private Timer waitTimer() {
+        Timer timer = waitTimer;
+        if (timer == null) {
+            timer = Timer.builder("websocket.channel.task.wait")
+                    .description("Time a STOMP channel task spent queued before running")
+                    .tag("channel", channel)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry.getObject());
+            waitTimer = timer;
+        }
+        return timer;
+    }
+
+    private Timer executionTimer() {
+        Timer timer = executionTimer;
+        if (timer == null) {
+            timer = Timer.builder("websocket.channel.task.execution")
+                    .description("Time a STOMP channel task spent running")
+                    .tag("channel", channel)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry.getObject());
+            executionTimer = timer;
+        }
+        return timer;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.demo.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * JDBC 호출을 가로채 SqlStatementRecorder에 기록하는 DataSource 프록시
+ * - getConnection(): 커넥션 획득 대기 시간
+ * - execute*(): 문장 형태별 실행 시간, 변경 행 수
+ * - ResultSet.next(): 조회 행 수 (CountingResultSet이 닫힐 때 기록)
+ *
+ * spring.jpa.show-sql 처럼 문장마다 stdout에 쓰지 않고 메모리에만 기록한다.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource implements Closeable {
+
+    private final SqlStatementRecorder recorder;
+
+    public InstrumentedDataSource(DataSource targetDataSource, SqlStatementRecorder recorder) {
+        super(targetDataSource);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection();
+        recorder.recordConnectionAcquire(System.nanoTime() - start);
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection(username, password);
+        recorder.recordConnectionAcquire(System.nanoTime() - start);
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    /**
+     * 감싼 풀(HikariDataSource 등)을 컨텍스트 종료 시 함께 닫는다
+     */
+    @Override
+    public void close() {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception ex) {
+                throw new IllegalStateException("DataSource 종료 실패", ex);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" ->
+                        proxy(PreparedStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                case "prepareCall" ->
+                        proxy(CallableStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                case "createStatement" -> proxy(Statement.class, new StatementHandler((Statement) result, null));
+                default -> result;
+            };
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+        private SqlStatementShape lastShape;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                Object result = InstrumentedDataSource.invoke(target, method, args);
+                // execute() 후 getResultSet()으로 꺼내는 결과도 직전 실행 형태로 행 수를 센다
+                return "getResultSet".equals(name) && result != null && lastShape != null
+                        ? new CountingResultSet((ResultSet) result, recorder, lastShape)
+                        : result;
+            }
+
+            // Statement.execute*(String sql) 는 인자로 SQL이 들어온다
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            long start = System.nanoTime();
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            SqlStatementShape shape = recorder.recordExecution(sql != null ? sql : "batch", System.nanoTime() - start);
+            lastShape = shape;
+
+            if (result instanceof ResultSet resultSet) {
+                return new CountingResultSet(resultSet, recorder, shape);
+            }
+            if (result instanceof Integer updated) {
+                recorder.recordRows(shape, Math.max(updated, 0));
+            } else if (result instanceof Long updated) {
+                recorder.recordRows(shape, Math.max(updated, 0));
+            } else if (result instanceof int[] batch) {
+                long total = 0;
+                for (int count : batch) {
+                    total += Math.max(count, 0);
+                }
+                recorder.recordRows(shape, total);
+            } else if (result instanceof long[] batch) {
+                long total = 0;
+                for (long count : batch) {
+                    total += Math.max(count, 0);
+                }
+                recorder.recordRows(shape, total);
+            }
+            return result;
+        }
+    }
+}
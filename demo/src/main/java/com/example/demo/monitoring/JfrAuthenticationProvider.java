@@ -0,0 +1,43 @@
+package com.example.demo.monitoring;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 인증 1건마다 AuthenticationJfrEvent를 남기는 AuthenticationProvider 데코레이터
+ * JFR 기록 중이 아니면 이벤트 객체는 JIT가 제거하므로 비용이 사실상 없다
+ */
+public class JfrAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+
+    public JfrAuthenticationProvider(AuthenticationProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        AuthenticationJfrEvent event = new AuthenticationJfrEvent();
+        event.begin();
+        try {
+            Authentication result = delegate.authenticate(authentication);
+            event.success = result != null && result.isAuthenticated();
+            return result;
+        } catch (AuthenticationException | RuntimeException e) {
+            event.failure = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.username = authentication.getName();
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
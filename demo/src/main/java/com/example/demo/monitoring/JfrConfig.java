@@ -0,0 +1,51 @@
+package com.example.demo.monitoring;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.Repository;
+
+/**
+ * 커스텀 JFR 이벤트 설정
+ * 인증(JfrAuthenticationProvider)은 SecurityConfig, STOMP 인터셉터는 WebSocketConfig에서 등록하고
+ * 여기서는 리포지토리 호출 이벤트를 붙인다.
+ */
+@Configuration
+public class JfrConfig {
+
+    /**
+     * Spring Data 리포지토리 프록시에 RepositoryCallJfrInterceptor를 추가한다
+     * 리포지토리는 이미 ProxyFactory로 만든 프록시이므로 프록시를 한 겹 더 씌우지 않고 어드바이스만 끼워 넣는다.
+     *
+     * 체인 끝에 붙이면 안 된다. QueryExecutorMethodInterceptor / ImplementationMethodExecutionInterceptor는
+     * proceed() 없이 결과를 반환하므로 그 뒤의 어드바이스는 호출되지 않는다.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryJfrPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof Repository<?, ?> && bean instanceof Advised advised && !advised.isFrozen()) {
+                    advised.addAdvice(frontPosition(advised), new RepositoryCallJfrInterceptor(beanName));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * ExposeInvocationInterceptor가 있으면 바로 뒤, 없으면 맨 앞
+     */
+    private static int frontPosition(Advised advised) {
+        Advisor[] advisors = advised.getAdvisors();
+        for (int i = 0; i < advisors.length; i++) {
+            if (advisors[i].getAdvice() instanceof ExposeInvocationInterceptor) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+}
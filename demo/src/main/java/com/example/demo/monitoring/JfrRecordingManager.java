@@ -0,0 +1,98 @@
+package com.example.demo.monitoring;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 온디맨드 연속 JFR 기록 관리
+ * 장애 중에 기록을 켜 두고(크기/기간 상한이 있는 링 형태의 디스크 기록) 필요할 때 스냅샷을 파일로 덤프한다.
+ * JDK 기본(default) 설정은 오버헤드가 1% 안팎이고, 커스텀 이벤트(com.example.demo.*)도 함께 기록된다.
+ */
+@Component
+public class JfrRecordingManager {
+
+    private static final String RECORDING_NAME = "demo-continuous";
+
+    private Recording recording;
+
+    /**
+     * 기록을 시작한다. 이미 기록 중이면 기존 기록의 상태를 그대로 돌려준다.
+     */
+    public synchronized RecordingStatus start(Duration maxAge, long maxSizeBytes) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return status();
+        }
+        closeQuietly();
+        try {
+            Recording newRecording = new Recording(Configuration.getConfiguration("default"));
+            newRecording.setName(RECORDING_NAME);
+            newRecording.setToDisk(true);
+            newRecording.setMaxAge(maxAge);
+            newRecording.setMaxSize(maxSizeBytes);
+            newRecording.start();
+            recording = newRecording;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Cannot load the default JFR configuration", e);
+        }
+        return status();
+    }
+
+    /**
+     * 지금까지의 기록(최대 maxAge / maxSize)을 임시 파일로 덤프한다. 호출한 쪽에서 파일을 지워야 한다.
+     */
+    public synchronized Path dump() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("No JFR recording is running");
+        }
+        try {
+            Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            recording.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void stop() {
+        closeQuietly();
+    }
+
+    public synchronized RecordingStatus status() {
+        if (recording == null) {
+            return new RecordingStatus(RECORDING_NAME, RecordingState.CLOSED.name(), null, null, 0, 0);
+        }
+        return new RecordingStatus(
+                recording.getName(),
+                recording.getState().name(),
+                recording.getStartTime(),
+                recording.getMaxAge(),
+                recording.getMaxSize(),
+                recording.getSize());
+    }
+
+    private void closeQuietly() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * 기록 상태 응답
+     */
+    public record RecordingStatus(String name, String state, Instant startedAt, Duration maxAge,
+                                  long maxSizeBytes, long sizeBytes) {
+    }
+}
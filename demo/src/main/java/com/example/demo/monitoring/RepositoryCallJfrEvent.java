@@ -0,0 +1,32 @@
+package com.example.demo.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Spring Data 리포지토리 메서드 호출 1건에 대한 JFR 이벤트
+ * SQL 실행뿐 아니라 영속성 컨텍스트 flush / 엔티티 매핑 시간까지 포함한다
+ */
+@Name("com.example.demo.RepositoryCall")
+@Label("Repository Call")
+@Category({"Demo", "Persistence"})
+@Description("Spring Data repository method invocation")
+@StackTrace(false)
+public class RepositoryCallJfrEvent extends jdk.jfr.Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Result Size")
+    @Description("Number of returned elements, 1 for a single result, -1 when unknown (e.g. Stream)")
+    int resultSize;
+
+    @Label("Failure")
+    String failure;
+}
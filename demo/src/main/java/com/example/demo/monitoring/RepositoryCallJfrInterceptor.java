@@ -0,0 +1,62 @@
+package com.example.demo.monitoring;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 리포지토리 메서드 호출마다 RepositoryCallJfrEvent를 남기는 어드바이스
+ */
+class RepositoryCallJfrInterceptor implements MethodInterceptor {
+
+    private final String repository;
+
+    RepositoryCallJfrInterceptor(String repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryCallJfrEvent event = new RepositoryCallJfrEvent();
+        event.begin();
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable e) {
+            event.failure = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repository;
+                event.method = invocation.getMethod().getName();
+                event.resultSize = resultSize(result);
+                event.commit();
+            }
+        }
+    }
+
+    private static int resultSize(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Stream<?>) {
+            return -1;
+        }
+        return 1;
+    }
+}
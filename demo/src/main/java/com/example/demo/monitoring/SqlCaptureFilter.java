@@ -0,0 +1,40 @@
+package com.example.demo.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 하나를 SQL 추적 범위로 묶는 필터
+ * 요청이 끝날 때 같은 SELECT 형태가 반복 실행됐으면 N+1 의심으로 기록한다.
+ * NestJS의 Interceptor에서 요청 전후를 감싸는 것과 비슷
+ * 인증 과정의 사용자 조회도 포함되도록 Security 필터보다 먼저 실행된다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlCaptureFilter extends OncePerRequestFilter {
+
+    private final SqlStatementRecorder recorder;
+
+    public SqlCaptureFilter(SqlStatementRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        recorder.beginRequest(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recorder.endRequest();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.monitoring;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource에 SQL 계측 프록시를 씌우는 설정
+ */
+@Configuration
+@EnableConfigurationProperties(SqlMonitoringProperties.class)
+public class SqlInstrumentationConfig {
+
+    /**
+     * "dataSource" 빈을 InstrumentedDataSource로 감싼다
+     * 레플리카 라우팅이 켜져 있으면(LazyConnectionDataSourceProxy) 지연 프록시 안쪽의 실제 라우팅 대상을 감싸
+     * 커넥션 획득 시간이 실제 풀 대기 시간으로 기록되게 한다.
+     */
+    @Bean
+    public static BeanPostProcessor sqlInstrumentationPostProcessor(ObjectProvider<SqlStatementRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof InstrumentedDataSource) {
+                    return bean;
+                }
+                if (bean instanceof LazyConnectionDataSourceProxy lazyProxy) {
+                    lazyProxy.setTargetDataSource(
+                            new InstrumentedDataSource(lazyProxy.getTargetDataSource(), recorder.getObject()));
+                    return bean;
+                }
+                return new InstrumentedDataSource(dataSource, recorder.getObject());
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.demo.monitoring;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * SQL 계측 설정 (app.monitoring.sql.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.monitoring.sql")
+public class SqlMonitoringProperties {
+
+    /**
+     * 이 시간 이상 걸린 문장은 느린 쿼리 버퍼에 기록
+     */
+    private Duration slowThreshold = Duration.ofMillis(200);
+
+    /**
+     * 느린 쿼리 / N+1 버퍼 크기
+     */
+    private int bufferSize = 256;
+
+    /**
+     * 한 요청 안에서 같은 SELECT 형태가 이 횟수 이상 실행되면 N+1로 기록
+     */
+    private int nPlusOneThreshold = 10;
+
+    /**
+     * 메트릭으로 따로 집계할 문장 형태 최대 개수 (초과분은 other로 합산)
+     */
+    private int maxShapes = 100;
+
+    /**
+     * 문장 형태별 실행 시간에 백분위 히스토그램 버킷도 내보낼지 (형태 수 x 버킷 수만큼 시리즈가 늘어난다)
+     */
+    private boolean shapeHistograms = false;
+}
@@ -0,0 +1,186 @@
+package com.example.demo.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC 문장 실행 기록기
+ * InstrumentedDataSource가 실행 시간과 행 수를 넘겨주면
+ * 문장 형태별 Micrometer 타이머/분포에 기록하고, 느린 쿼리와 N+1 의심 패턴을 링 버퍼에 남긴다.
+ *
+ * 요청 스레드에서는 메모리 기록만 하고 로그 I/O는 하지 않는다.
+ */
+@Component
+public class SqlStatementRecorder {
+
+    private static final String OTHER_SHAPE = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlMonitoringProperties properties;
+    private final long slowThresholdNanos;
+
+    // 원본 SQL 문자열 -> 형태 (Hibernate가 만든 SQL은 문자열이 고정이라 대부분 여기서 끝난다)
+    private final Map<String, SqlStatementShape> shapesBySql = new ConcurrentHashMap<>();
+    // 정규화된 SQL -> 형태
+    private final Map<String, SqlStatementShape> shapes = new ConcurrentHashMap<>();
+
+    private final Timer connectionAcquire;
+    private final BoundedEventBuffer<SlowQuery> slowQueries;
+    private final BoundedEventBuffer<NPlusOneSuspect> nPlusOneSuspects;
+
+    private final ThreadLocal<RequestSqlContext> currentRequest = new ThreadLocal<>();
+
+    public SqlStatementRecorder(MeterRegistry meterRegistry, SqlMonitoringProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+        this.connectionAcquire = Timer.builder("sql.connection.acquire")
+                .description("DataSource.getConnection() 대기 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.slowQueries = new BoundedEventBuffer<>(properties.getBufferSize());
+        this.nPlusOneSuspects = new BoundedEventBuffer<>(properties.getBufferSize());
+    }
+
+    public void recordConnectionAcquire(long nanos) {
+        connectionAcquire.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 문장 실행 시간 기록 (실행 직후 호출)
+     */
+    public SqlStatementShape recordExecution(String rawSql, long nanos) {
+        SqlStatementShape shape = shapeOf(rawSql);
+        shape.getTimer().record(nanos, TimeUnit.NANOSECONDS);
+
+        RequestSqlContext context = currentRequest.get();
+        if (context != null) {
+            context.statementExecuted(shape);
+        }
+        if (nanos >= slowThresholdNanos) {
+            slowQueries.add(new SlowQuery(Instant.now(), shape.getId(), shape.getSql(),
+                    nanos / 1_000_000.0, context != null ? context.request : null));
+        }
+        return shape;
+    }
+
+    /**
+     * 결과 행 수 / 변경 행 수 기록
+     */
+    public void recordRows(SqlStatementShape shape, long rows) {
+        shape.getRows().record(rows);
+    }
+
+    // ==================== 요청 단위 추적 (N+1 감지) ====================
+
+    public void beginRequest(String request) {
+        currentRequest.set(new RequestSqlContext(request));
+    }
+
+    public void endRequest() {
+        RequestSqlContext context = currentRequest.get();
+        currentRequest.remove();
+        if (context == null) {
+            return;
+        }
+        context.executions.forEach((shape, count) -> {
+            if (count >= properties.getNPlusOneThreshold() && "select".equals(shape.getOperation())) {
+                nPlusOneSuspects.add(new NPlusOneSuspect(Instant.now(), context.request,
+                        shape.getId(), shape.getSql(), count));
+            }
+        });
+    }
+
+    /**
+     * 현재 요청에서 지금까지 실행된 문장 수 (요청 범위 밖이면 -1)
+     */
+    public int currentRequestStatementCount() {
+        RequestSqlContext context = currentRequest.get();
+        return context != null ? context.statements : -1;
+    }
+
+    // ==================== 조회 ====================
+
+    public List<SlowQuery> getSlowQueries() {
+        return slowQueries.snapshot();
+    }
+
+    public List<NPlusOneSuspect> getNPlusOneSuspects() {
+        return nPlusOneSuspects.snapshot();
+    }
+
+    public Collection<SqlStatementShape> getShapes() {
+        return shapes.values();
+    }
+
+    private SqlStatementShape shapeOf(String rawSql) {
+        SqlStatementShape shape = shapesBySql.get(rawSql);
+        if (shape != null) {
+            return shape;
+        }
+        String normalized = SqlStatementShape.normalize(rawSql);
+        shape = shapes.get(normalized);
+        if (shape == null) {
+            shape = shapes.size() < properties.getMaxShapes()
+                    ? shapes.computeIfAbsent(normalized, this::createShape)
+                    : shapes.computeIfAbsent(OTHER_SHAPE, this::createShape);
+        }
+        // 리터럴이 박힌 SQL이 무한히 쌓이지 않도록 원본 문자열 캐시도 제한
+        if (shapesBySql.size() < properties.getMaxShapes() * 4) {
+            shapesBySql.putIfAbsent(rawSql, shape);
+        }
+        return shape;
+    }
+
+    private SqlStatementShape createShape(String normalizedSql) {
+        String id = OTHER_SHAPE.equals(normalizedSql) ? OTHER_SHAPE : SqlStatementShape.fingerprint(normalizedSql);
+        String operation = OTHER_SHAPE.equals(normalizedSql) ? OTHER_SHAPE : SqlStatementShape.operationOf(normalizedSql);
+        // 형태마다 히스토그램 버킷(수십 개 시리즈)이 붙으므로 기본은 count/sum/max만 내보낸다
+        Timer timer = Timer.builder("sql.statement")
+                .description("문장 형태별 실행 시간")
+                .tag("shape", id)
+                .tag("operation", operation)
+                .publishPercentileHistogram(properties.isShapeHistograms())
+                .register(meterRegistry);
+        DistributionSummary rows = DistributionSummary.builder("sql.statement.rows")
+                .description("문장 형태별 조회/변경 행 수")
+                .tag("shape", id)
+                .tag("operation", operation)
+                .register(meterRegistry);
+        return new SqlStatementShape(id, normalizedSql, operation, timer, rows);
+    }
+
+    /**
+     * 요청 하나 동안의 문장 실행 횟수 (요청 스레드 전용이라 동기화가 필요 없다)
+     */
+    private static final class RequestSqlContext {
+        private final String request;
+        private final Map<SqlStatementShape, Integer> executions = new HashMap<>();
+        private int statements;
+
+        private RequestSqlContext(String request) {
+            this.request = request;
+        }
+
+        private void statementExecuted(SqlStatementShape shape) {
+            statements++;
+            executions.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    public record SlowQuery(Instant at, String shape, String sql, double millis, String request) {
+    }
+
+    public record NPlusOneSuspect(Instant at, String request, String shape, String sql, int executions) {
+    }
+}
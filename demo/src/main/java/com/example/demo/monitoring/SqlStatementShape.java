@@ -0,0 +1,86 @@
+package com.example.demo.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 파라미터 값만 다른 SQL을 하나로 묶은 "문장 형태"와 그 메트릭
+ */
+public final class SqlStatementShape {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String id;
+    private final String sql;
+    private final String operation;
+    private final Timer timer;
+    private final DistributionSummary rows;
+
+    SqlStatementShape(String id, String sql, String operation, Timer timer, DistributionSummary rows) {
+        this.id = id;
+        this.sql = sql;
+        this.operation = operation;
+        this.timer = timer;
+        this.rows = rows;
+    }
+
+    /**
+     * 리터럴과 IN 목록 길이를 지워 같은 형태의 SQL이 같은 문자열이 되도록 정규화
+     */
+    static String normalize(String rawSql) {
+        String sql = WHITESPACE.matcher(rawSql.trim()).replaceAll(" ");
+        sql = STRING_LITERAL.matcher(sql).replaceAll("?");
+        sql = NUMBER_LITERAL.matcher(sql).replaceAll("?");
+        return IN_LIST.matcher(sql).replaceAll("in (?...)");
+    }
+
+    static String operationOf(String normalizedSql) {
+        int end = normalizedSql.indexOf(' ');
+        String keyword = end < 0 ? normalizedSql : normalizedSql.substring(0, end);
+        return keyword.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 메트릭 태그 / 조회 화면용 ID (정규화된 SQL의 SHA-256 앞 128비트)
+     * 형태는 정규화된 SQL 자체로 구분하고, 이 값은 표시용이다.
+     * 32비트 hashCode는 충돌하면 서로 다른 SQL이 같은 타이머(shape 태그)에 합쳐지므로 쓰지 않는다.
+     */
+    static String fingerprint(String normalizedSql) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalizedSql.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public Timer getTimer() {
+        return timer;
+    }
+
+    public DistributionSummary getRows() {
+        return rows;
+    }
+}
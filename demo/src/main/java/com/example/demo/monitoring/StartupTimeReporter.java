@@ -0,0 +1,47 @@
+package com.example.demo.monitoring;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+
+/**
+ * 기동 시간 기록 (JVM 시작 -> ApplicationReadyEvent)
+ * NestJS의 app.listen() 이후 bootstrap 소요 시간 로그와 비슷
+ *
+ * 로그의 "startup-to-ready N ms"는 ./gradlew startupReport가 파싱해 기본 / AOT / AOT+CDS를 비교한다.
+ * app.startup.exit-on-ready=true이면 다른 ready 리스너(통계 / 정원 원장 적재 등 DB 접근)보다 먼저 종료한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StartupTimeReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimeReporter.class);
+
+    private final boolean exitOnReady;
+
+    public StartupTimeReporter(@Value("${app.startup.exit-on-ready:false}") boolean exitOnReady) {
+        this.exitOnReady = exitOnReady;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        boolean cds = runtime.getInputArguments().stream().anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+        log.info("startup-to-ready {} ms (aot={}, cds={})",
+                runtime.getUptime(), AotDetector.useGeneratedArtifacts(), cds);
+
+        if (exitOnReady) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * clientInboundChannel에서 @MessageMapping 핸들러(ChatController 등)를 실행한 1건에 대한 JFR 이벤트
+ */
+@Name("com.example.demo.StompDispatch")
+@Label("STOMP Dispatch")
+@Category({"Demo", "WebSocket"})
+@Description("@MessageMapping handler invocation for an inbound STOMP message")
+@StackTrace(false)
+public class StompDispatchJfrEvent extends jdk.jfr.Event {
+
+    @Label("Destination")
+    String destination;
+
+    @Label("User")
+    String user;
+
+    @Label("Session Id")
+    String sessionId;
+
+    @Label("Failure")
+    String failure;
+}
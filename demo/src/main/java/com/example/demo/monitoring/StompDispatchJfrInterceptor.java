@@ -0,0 +1,49 @@
+package com.example.demo.monitoring;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+import java.security.Principal;
+
+/**
+ * clientInboundChannel 실행기 스레드에서 @MessageMapping 핸들러 실행 시간을 StompDispatchJfrEvent로 남긴다
+ * 같은 메시지를 브로커/사용자 목적지 핸들러도 받지만, 애플리케이션 코드가 도는 SimpAnnotationMethodMessageHandler만 기록한다.
+ */
+public class StompDispatchJfrInterceptor implements ExecutorChannelInterceptor {
+
+    private final ThreadLocal<StompDispatchJfrEvent> current = new ThreadLocal<>();
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler
+                && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+            StompDispatchJfrEvent event = new StompDispatchJfrEvent();
+            event.begin();
+            current.set(event);
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        StompDispatchJfrEvent event = current.get();
+        if (event == null || !(handler instanceof SimpAnnotationMethodMessageHandler)) {
+            return;
+        }
+        current.remove();
+        event.end();
+        if (event.shouldCommit()) {
+            Principal user = SimpMessageHeaderAccessor.getUser(message.getHeaders());
+            event.destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            event.user = user != null ? user.getName() : null;
+            event.sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+            event.failure = ex != null ? ex.getClass().getSimpleName() : null;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demo.monitoring;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인바운드 STOMP 메시지 1건의 추적
+ * 채널 인터셉터들이 메시지 헤더(HEADER)로 이 객체를 넘겨받아 단계별 구간을 기록한다.
+ * 구간은 여러 스레드(인바운드/브로커/아웃바운드 실행기)에서 동시에 기록되므로 원자 변수로만 갱신한다.
+ *
+ * 단계:
+ * INBOUND_QUEUE  - 세션 스레드가 clientInboundChannel에 넣은 뒤 실행기 스레드가 꺼낼 때까지
+ * HANDLER        - @MessageMapping 핸들러 실행 (ChatController 등)
+ * BROKER         - brokerChannel 전송 (SimpleBroker가 구독자마다 clientOutboundChannel에 넣는 시간 포함)
+ * OUTBOUND_QUEUE - clientOutboundChannel에 들어간 뒤 실행기 스레드가 꺼낼 때까지 (구독자별)
+ * OUTBOUND_SEND  - 웹소켓 세션으로 프레임을 쓰는 시간 (구독자별)
+ */
+public class StompTrace {
+
+    /**
+     * 인프로세스 메시지 헤더 이름 (추적 객체 / 아웃바운드 전달 1건)
+     */
+    public static final String HEADER = "demo.stompTrace";
+    public static final String DELIVERY_HEADER = "demo.stompTrace.delivery";
+
+    /**
+     * STOMP 프레임 헤더 이름 (클라이언트가 보내면 그 ID로 항상 추적, 구독자에게 전달되는 MESSAGE 프레임에도 붙음)
+     */
+    public static final String NATIVE_HEADER = "trace-id";
+
+    public enum Stage {
+        INBOUND_QUEUE, HANDLER, BROKER, OUTBOUND_QUEUE, OUTBOUND_SEND
+    }
+
+    private final String traceId;
+    private final String destination;
+    private final String user;
+    private final String sessionId;
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final int maxSpans;
+
+    private final StageStats[] stages = new StageStats[Stage.values().length];
+    private final ConcurrentLinkedQueue<Span> spans = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger spanCount = new AtomicInteger();
+    private final AtomicLong lastEndNanos = new AtomicLong(startNanos);
+
+    StompTrace(String traceId, String destination, String user, String sessionId, int maxSpans) {
+        this.traceId = traceId;
+        this.destination = destination;
+        this.user = user;
+        this.sessionId = sessionId;
+        this.maxSpans = maxSpans;
+        for (int i = 0; i < stages.length; i++) {
+            stages[i] = new StageStats();
+        }
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    void record(Stage stage, long fromNanos, long toNanos, String detail) {
+        long duration = toNanos - fromNanos;
+        stages[stage.ordinal()].record(duration);
+        lastEndNanos.accumulateAndGet(toNanos, Math::max);
+        if (spanCount.getAndIncrement() < maxSpans) {
+            spans.add(new Span(stage, micros(fromNanos - startNanos), micros(duration), detail));
+        }
+    }
+
+    /**
+     * 조회 시점의 스냅샷 (구독자 전달이 아직 진행 중이면 이후 조회에서 값이 늘어날 수 있다)
+     */
+    public TraceView view() {
+        List<StageBreakdown> breakdown = new ArrayList<>(stages.length);
+        for (Stage stage : Stage.values()) {
+            StageStats stats = stages[stage.ordinal()];
+            long count = stats.count.get();
+            if (count > 0) {
+                breakdown.add(new StageBreakdown(stage, count,
+                        micros(stats.totalNanos.get() / count), micros(stats.maxNanos.get())));
+            }
+        }
+        return new TraceView(traceId, destination, user, sessionId, startedAt,
+                micros(lastEndNanos.get() - startNanos), breakdown, List.copyOf(spans),
+                Math.max(0, spanCount.get() - maxSpans));
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static final class StageStats {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    /**
+     * 아웃바운드 전달 1건 (구독자 세션별로 clientOutboundChannel에 들어간 시각)
+     */
+    record Delivery(StompTrace trace, long enqueuedNanos) {
+    }
+
+    /**
+     * 개별 구간 (offsetMicros: 추적 시작 기준 시작 시점)
+     */
+    public record Span(Stage stage, long offsetMicros, long durationMicros, String detail) {
+    }
+
+    /**
+     * 단계별 소요 시간 (구독자별 단계는 count가 구독자 수)
+     */
+    public record StageBreakdown(Stage stage, long count, long meanMicros, long maxMicros) {
+    }
+
+    /**
+     * 추적 조회 응답
+     */
+    public record TraceView(String traceId, String destination, String user, String sessionId, Instant startedAt,
+                            long totalMicros, List<StageBreakdown> stages, List<Span> spans, int droppedSpans) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.monitoring;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+
+import java.util.ArrayDeque;
+
+/**
+ * brokerChannel 추적 인터셉터
+ * 핸들러가 보내는 메시지(@SendTo 반환값, SimpMessagingTemplate 전송)에 실행 중인 추적을 이어 붙이고
+ * trace-id STOMP 헤더를 달아 구독자에게 전달되는 MESSAGE 프레임까지 전파한다.
+ * SimpleBroker가 구독자별 메시지를 만들 때 원본 헤더를 복사하므로 아웃바운드 인터셉터가 추적을 이어받는다.
+ */
+public class StompTraceBrokerInterceptor implements ChannelInterceptor {
+
+    private static final BrokerScope NOT_TRACED = new BrokerScope(null, 0);
+
+    private final StompTraceRecorder recorder;
+
+    // 사용자 목적지 처리 시 중첩 send가 일어나므로 스택으로 보관 (BrokerFanOutMetricsInterceptor와 같은 이유)
+    private final ThreadLocal<ArrayDeque<BrokerScope>> started = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public StompTraceBrokerInterceptor(StompTraceRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (message.getHeaders().get(StompTrace.HEADER) instanceof StompTrace trace) {
+            started.get().push(new BrokerScope(trace, System.nanoTime()));
+            return message;
+        }
+        StompTrace trace = recorder.currentHandlerTrace();
+        if (trace == null) {
+            started.get().push(NOT_TRACED);
+            return message;
+        }
+        MessageHeaderAccessor accessor = MessageHeaderAccessor.getMutableAccessor(message);
+        accessor.setHeader(StompTrace.HEADER, trace);
+        if (accessor instanceof NativeMessageHeaderAccessor nativeAccessor) {
+            nativeAccessor.setNativeHeader(StompTrace.NATIVE_HEADER, trace.getTraceId());
+        }
+        started.get().push(new BrokerScope(trace, System.nanoTime()));
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        BrokerScope scope = started.get().poll();
+        if (scope != null && scope.trace() != null) {
+            scope.trace().record(StompTrace.Stage.BROKER, scope.startNanos(), System.nanoTime(),
+                    SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+        }
+    }
+
+    private record BrokerScope(StompTrace trace, long startNanos) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.monitoring;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+
+import java.security.Principal;
+
+/**
+ * clientInboundChannel 추적 인터셉터
+ * 세션 스레드(preSend)에서 샘플링된 SEND 메시지에 추적을 붙이고,
+ * 실행기 스레드에서 큐 대기(INBOUND_QUEUE)와 @MessageMapping 핸들러 실행(HANDLER) 구간을 기록한다.
+ */
+public class StompTraceInboundInterceptor implements ExecutorChannelInterceptor {
+
+    private final StompTraceRecorder recorder;
+
+    public StompTraceInboundInterceptor(StompTraceRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        Principal user = SimpMessageHeaderAccessor.getUser(message.getHeaders());
+        StompTrace trace = recorder.startIfSampled(
+                NativeMessageHeaderAccessor.getFirstNativeHeader(StompTrace.NATIVE_HEADER, message.getHeaders()),
+                SimpMessageHeaderAccessor.getDestination(message.getHeaders()),
+                user,
+                SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+        if (trace == null) {
+            return message;
+        }
+        MessageHeaderAccessor accessor = MessageHeaderAccessor.getMutableAccessor(message);
+        accessor.setHeader(StompTrace.HEADER, trace);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler
+                && message.getHeaders().get(StompTrace.HEADER) instanceof StompTrace trace) {
+            long now = System.nanoTime();
+            trace.record(StompTrace.Stage.INBOUND_QUEUE, trace.getStartNanos(), now, null);
+            recorder.enterHandler(trace, now);
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (!(handler instanceof SimpAnnotationMethodMessageHandler)) {
+            return;
+        }
+        StompTraceRecorder.HandlerScope scope = recorder.exitHandler();
+        if (scope != null) {
+            scope.trace().record(StompTrace.Stage.HANDLER, scope.startNanos(), System.nanoTime(),
+                    ex != null ? ex.getClass().getSimpleName() : null);
+        }
+    }
+}
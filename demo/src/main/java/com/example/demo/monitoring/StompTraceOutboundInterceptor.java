@@ -0,0 +1,47 @@
+package com.example.demo.monitoring;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+/**
+ * clientOutboundChannel 추적 인터셉터
+ * 구독자 세션별로 큐 대기(OUTBOUND_QUEUE)와 웹소켓 프레임 쓰기(OUTBOUND_SEND) 구간을 기록한다.
+ */
+public class StompTraceOutboundInterceptor implements ExecutorChannelInterceptor {
+
+    private final ThreadLocal<long[]> sendStartedAt = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!(message.getHeaders().get(StompTrace.HEADER) instanceof StompTrace trace)) {
+            return message;
+        }
+        MessageHeaderAccessor accessor = MessageHeaderAccessor.getMutableAccessor(message);
+        accessor.setHeader(StompTrace.DELIVERY_HEADER, new StompTrace.Delivery(trace, System.nanoTime()));
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (message.getHeaders().get(StompTrace.DELIVERY_HEADER) instanceof StompTrace.Delivery delivery) {
+            long now = System.nanoTime();
+            delivery.trace().record(StompTrace.Stage.OUTBOUND_QUEUE, delivery.enqueuedNanos(), now,
+                    SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+            sendStartedAt.get()[0] = now;
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (message.getHeaders().get(StompTrace.DELIVERY_HEADER) instanceof StompTrace.Delivery delivery) {
+            delivery.trace().record(StompTrace.Stage.OUTBOUND_SEND, sendStartedAt.get()[0], System.nanoTime(),
+                    SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.monitoring;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * STOMP 메시지 추적 설정 (app.monitoring.stomp-trace.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.monitoring.stomp-trace")
+public class StompTraceProperties {
+
+    /**
+     * 추적할 인바운드 SEND 메시지 비율 (0 ~ 1, trace-id 헤더를 보낸 메시지는 항상 추적)
+     */
+    private double sampleRate = 0.01;
+
+    /**
+     * 최근 추적 보관 개수
+     */
+    private int bufferSize = 500;
+
+    /**
+     * 추적 1건당 개별 구간 보관 개수 (구독자가 많으면 초과분은 단계별 합계에만 반영)
+     */
+    private int maxSpansPerTrace = 64;
+}
@@ -0,0 +1,94 @@
+package com.example.demo.monitoring;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 메시지 추적 기록기
+ * 샘플링 여부를 정하고 추적을 메모리 링 버퍼(BoundedEventBuffer)에 보관한다.
+ * 추적은 만들 때 바로 버퍼에 넣고, 이후 단계 구간은 추적 객체에 계속 쌓인다.
+ * 샘플링되지 않은 메시지는 난수 1개 외에 추가 비용이 없다.
+ */
+@Component
+public class StompTraceRecorder {
+
+    private static final Pattern VALID_TRACE_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final StompTraceProperties properties;
+    private final BoundedEventBuffer<StompTrace> traces;
+
+    // @MessageMapping 핸들러 실행 중인 추적 (핸들러가 보내는 메시지에 이어 붙이기 위함)
+    private final ThreadLocal<HandlerScope> currentHandler = new ThreadLocal<>();
+
+    public StompTraceRecorder(StompTraceProperties properties) {
+        this.properties = properties;
+        this.traces = new BoundedEventBuffer<>(properties.getBufferSize());
+    }
+
+    /**
+     * 인바운드 메시지의 추적을 시작한다. 샘플링되지 않으면 null
+     * 클라이언트가 보낸 trace-id는 관리자 세션일 때만 따른다. 일반 사용자가 헤더로 샘플링을 우회해
+     * 모든 메시지를 추적시키거나 원하는 ID로 공유 버퍼를 채우지 못하도록, 그 외에는 샘플링하고 ID도 서버가 만든다.
+     */
+    StompTrace startIfSampled(String requestedTraceId, String destination, Principal user, String sessionId) {
+        String traceId;
+        if (requestedTraceId != null && isAdmin(user) && VALID_TRACE_ID.matcher(requestedTraceId).matches()) {
+            traceId = requestedTraceId;
+        } else if (ThreadLocalRandom.current().nextDouble() < properties.getSampleRate()) {
+            traceId = UUID.randomUUID().toString();
+        } else {
+            return null;
+        }
+        StompTrace trace = new StompTrace(traceId, destination, user != null ? user.getName() : null, sessionId,
+                properties.getMaxSpansPerTrace());
+        traces.add(trace);
+        return trace;
+    }
+
+    private static boolean isAdmin(Principal user) {
+        return user instanceof Authentication authentication
+                && authentication.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .anyMatch("ROLE_ADMIN"::equals);
+    }
+
+    void enterHandler(StompTrace trace, long startNanos) {
+        currentHandler.set(new HandlerScope(trace, startNanos));
+    }
+
+    HandlerScope exitHandler() {
+        HandlerScope scope = currentHandler.get();
+        currentHandler.remove();
+        return scope;
+    }
+
+    StompTrace currentHandlerTrace() {
+        HandlerScope scope = currentHandler.get();
+        return scope != null ? scope.trace() : null;
+    }
+
+    /**
+     * 최신순 추적 목록
+     */
+    public List<StompTrace.TraceView> recent(int limit) {
+        return traces.snapshot().stream().limit(limit).map(StompTrace::view).toList();
+    }
+
+    public Optional<StompTrace.TraceView> find(String traceId) {
+        return traces.snapshot().stream()
+                .filter(trace -> trace.getTraceId().equals(traceId))
+                .findFirst()
+                .map(StompTrace::view);
+    }
+
+    record HandlerScope(StompTrace trace, long startNanos) {
+    }
+}
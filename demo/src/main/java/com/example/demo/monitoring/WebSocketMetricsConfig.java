@@ -0,0 +1,46 @@
+package com.example.demo.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+
+/**
+ * STOMP 채널 실행기 계측 설정
+ *
+ * 큐 깊이/활성 스레드(executor.queued, executor.active 등)는 Spring Boot가 Executor 빈마다 자동으로 등록하고,
+ * 여기서는 작업별 대기/실행 시간 Timer를 붙인다.
+ * 메시지 단위 단계별 추적(StompTrace*)은 WebSocketConfig에서 채널 인터셉터로 등록한다.
+ */
+@Configuration
+@EnableConfigurationProperties(StompTraceProperties.class)
+public class WebSocketMetricsConfig {
+
+    // 실행기 빈 이름 -> channel 태그
+    private static final Map<String, String> CHANNEL_EXECUTORS = Map.of(
+            "clientInboundChannelExecutor", "clientInbound",
+            "clientOutboundChannelExecutor", "clientOutbound",
+            "brokerChannelExecutor", "broker");
+
+    /**
+     * 실행기가 초기화(스레드 풀 생성)되기 전에 TaskDecorator를 설정한다
+     */
+    @Bean
+    public static BeanPostProcessor channelExecutorTimingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                String channel = CHANNEL_EXECUTORS.get(beanName);
+                if (channel != null && bean instanceof ThreadPoolTaskExecutor executor) {
+                    executor.setTaskDecorator(new ChannelTaskTimingDecorator(meterRegistry, channel));
+                }
+                return bean;
+            }
+        };
+    }
+}
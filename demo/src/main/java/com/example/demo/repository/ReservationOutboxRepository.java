@@ -0,0 +1,33 @@
+package com.example.demo.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.example.demo.entity.ReservationOutboxEvent;
+import com.example.demo.entity.ViewingReservation.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ReservationOutboxRepository extends JpaRepository<ReservationOutboxEvent, Long> {
+    // 전송 대기 이벤트를 기록 순서대로, 수신자 username과 함께 한 번에 조회 ([0] 이벤트, [1] username, 탈퇴한 사용자면 null)
+    @Query("SELECT e, u.username FROM ReservationOutboxEvent e LEFT JOIN User u ON u.id = e.userId ORDER BY e.id")
+    List<Object[]> findPendingWithUsername(Pageable pageable);
+
+    // 만료 처리 등 대량 상태 변경을 INSERT ... SELECT 한 번으로 기록 (엔티티 로딩/건별 INSERT 없음)
+    @Modifying
+    @Query("INSERT INTO ReservationOutboxEvent (reservationId, userId, previousStatus, status, occurredAt) " +
+           "SELECT v.id, v.user.id, :previousStatus, :status, :occurredAt " +
+           "FROM ViewingReservation v WHERE v.id IN :reservationIds")
+    int insertForReservations(@Param("reservationIds") Collection<UUID> reservationIds,
+                              @Param("previousStatus") ReservationStatus previousStatus,
+                              @Param("status") ReservationStatus status,
+                              @Param("occurredAt") LocalDateTime occurredAt);
+}
@@ -1,11 +1,18 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.UserResponseDto;
 import com.example.demo.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +22,7 @@ import java.util.Optional;
  * JpaRepository를 상속받아 기본 CRUD 메서드들을 자동으로 제공받음
  */
 @Repository // NestJS의 @Injectable()과 비슷한 의존성 주입 표시
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     /**
      * 사용자명으로 사용자 찾기
@@ -66,4 +73,58 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query(value = "SELECT * FROM users WHERE email = :email", nativeQuery = true)
     Optional<User> findByEmailNative(@Param("email") String email);
+
+    // ==================== 조회 전용 DTO 프로젝션 ====================
+    // 생성자 표현식(SELECT new ...)으로 필요한 컬럼만 읽어 UserResponseDto를 바로 만든다.
+    // 엔티티가 영속성 컨텍스트에 올라가지 않으므로 dirty checking 스냅샷이 없고,
+    // 비밀번호 해시 컬럼은 아예 SELECT 되지 않는다.
+    // NestJS TypeORM의 select: [...] 옵션으로 특정 컬럼만 가져오는 것과 비슷
+
+    /**
+     * ID로 사용자 응답 DTO 조회
+     * 조회 빈도가 높아 쿼리 캐시에 올린다 (users 테이블 변경 시 자동 무효화)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.example.demo.dto.UserResponseDto(u.id, u.username, u.email, u.role, u.createdAt, u.updatedAt) " +
+           "FROM User u WHERE u.id = :id")
+    Optional<UserResponseDto> findResponseById(@Param("id") Long id);
+
+    /**
+     * 사용자명으로 사용자 응답 DTO 조회
+     * 조회 빈도가 높아 쿼리 캐시에 올린다 (users 테이블 변경 시 자동 무효화)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.example.demo.dto.UserResponseDto(u.id, u.username, u.email, u.role, u.createdAt, u.updatedAt) " +
+           "FROM User u WHERE u.username = :username")
+    Optional<UserResponseDto> findResponseByUsername(@Param("username") String username);
+
+    /**
+     * 역할별 사용자 응답 DTO 목록 조회
+     */
+    @Query("SELECT new com.example.demo.dto.UserResponseDto(u.id, u.username, u.email, u.role, u.createdAt, u.updatedAt) " +
+           "FROM User u WHERE u.role = :role")
+    List<UserResponseDto> findResponsesByRole(@Param("role") User.Role role);
+
+    /**
+     * 사용자명 LIKE 검색 결과를 응답 DTO 목록으로 조회
+     */
+    @Query("SELECT new com.example.demo.dto.UserResponseDto(u.id, u.username, u.email, u.role, u.createdAt, u.updatedAt) " +
+           "FROM User u WHERE u.username LIKE %:username%")
+    List<UserResponseDto> findResponsesByUsernameContaining(@Param("username") String username);
+
+    /**
+     * 전체 사용자 응답 DTO 목록 조회
+     */
+    @Query("SELECT new com.example.demo.dto.UserResponseDto(u.id, u.username, u.email, u.role, u.createdAt, u.updatedAt) " +
+           "FROM User u")
+    List<UserResponseDto> findAllResponses();
+
+    /**
+     * 전체 사용자 응답 DTO 페이지 조회
+     * 정렬은 Pageable의 Sort가 별칭 u 기준으로 ORDER BY에 붙는다
+     */
+    @Query(value = "SELECT new com.example.demo.dto.UserResponseDto(u.id, u.username, u.email, u.role, u.createdAt, u.updatedAt) " +
+                   "FROM User u",
+           countQuery = "SELECT COUNT(u) FROM User u")
+    Page<UserResponseDto> findAllResponses(Pageable pageable);
 } 
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.User;
+
+import java.util.Optional;
+
+/**
+ * 사용자 리포지토리 커스텀 확장 인터페이스
+ * Spring Data가 자동 생성하지 못하는 Hibernate 전용 조회를 정의
+ * NestJS에서 커스텀 Repository 클래스를 따로 만드는 것과 비슷
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * 사용자명(natural id)으로 사용자 엔티티 조회
+     * 2차 캐시의 natural id 리전과 엔티티 리전을 거치므로 캐시 적중 시 DB를 조회하지 않음
+     */
+    Optional<User> findByNaturalUsername(String username);
+}
@@ -0,0 +1,25 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+/**
+ * UserRepositoryCustom 구현체
+ * Spring Data가 이름 규칙(인터페이스명 + Impl)으로 찾아 UserRepository에 합쳐준다
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByNaturalUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+    }
+}
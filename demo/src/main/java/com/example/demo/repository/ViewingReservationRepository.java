@@ -1,19 +1,142 @@
 package com.example.demo.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.repository.query.Param;
 
+import com.example.demo.dto.ViewingReservationDto.ViewingReservationResponseDto;
 import com.example.demo.entity.ViewingReservation;
 
+import jakarta.persistence.LockModeType;
+import org.hibernate.jpa.HibernateHints;
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface ViewingReservationRepository extends JpaRepository<ViewingReservation, String> {
-    Optional<ViewingReservation> findById(String id);
+public interface ViewingReservationRepository extends JpaRepository<ViewingReservation, UUID> {
+    // 단건 조회는 사용자까지 한 번의 조인으로 가져온다
+    @EntityGraph(attributePaths = "user")
+    Optional<ViewingReservation> findById(UUID id);
+
+    // 목록 조회는 엔티티 대신 사용자 조인 프로젝션으로 바로 응답 DTO를 만든다 (페이지당 SELECT 1회 + COUNT 1회)
+    @Query(value = "SELECT new com.example.demo.dto.ViewingReservationDto$ViewingReservationResponseDto(" +
+                   "v.id, u.id, u.username, v.status, v.reservationDate, v.createdAt, v.version) " +
+                   "FROM ViewingReservation v JOIN v.user u",
+           countQuery = "SELECT COUNT(v) FROM ViewingReservation v")
+    Page<ViewingReservationResponseDto> findAllResponses(Pageable pageable);
+
+    // 시간대 정원 장부(SlotCapacityLedger) 복구용: 예매일시별 유효 예매 수
+    @Query("SELECT v.reservationDate, COUNT(v) FROM ViewingReservation v " +
+           "WHERE v.status <> :excludedStatus AND v.reservationDate >= :from " +
+           "GROUP BY v.reservationDate")
+    List<Object[]> countByReservationDateFrom(@Param("from") LocalDateTime from,
+                                              @Param("excludedStatus") ViewingReservation.ReservationStatus excludedStatus);
+
+    // 예매 통계(ReservationStatistics) 재구성용: 사용자 / 예매일 / 상태별 건수
+    @Query("SELECT v.user.id, cast(v.reservationDate as LocalDate), v.status, COUNT(v) FROM ViewingReservation v " +
+           "GROUP BY v.user.id, cast(v.reservationDate as LocalDate), v.status")
+    List<Object[]> countGroupByUserDayAndStatus();
+
+    // ==================== 사용자별 예매 목록 (키셋 페이지네이션) ====================
+    // (:status IS NULL OR ...) 형태는 MySQL이 인덱스 범위를 못 잡으므로 상태 유무에 따라 쿼리를 나눈다.
+    // 상태가 있으면 (user_id, status, reservation_date), 없으면 (user_id, reservation_date) 인덱스를 순서대로 읽는다.
+    // InnoDB 보조 인덱스 끝에는 PK(id)가 붙어 있어 ORDER BY reservation_date, id에 filesort가 필요 없다.
+    // 다음 페이지는 OFFSET 대신 마지막 행의 (reservationDate, id) 이후부터 읽는다. Pageable은 LIMIT(size + 1)로만 사용한다.
+
+    @Query("SELECT new com.example.demo.dto.ViewingReservationDto$ViewingReservationResponseDto(" +
+           "v.id, u.id, u.username, v.status, v.reservationDate, v.createdAt, v.version) " +
+           "FROM ViewingReservation v JOIN v.user u " +
+           "WHERE v.user.id = :userId AND v.status = :status " +
+           "ORDER BY v.reservationDate ASC, v.id ASC")
+    Slice<ViewingReservationResponseDto> findFirstSliceByUserIdAndStatus(@Param("userId") Long userId,
+                                                                          @Param("status") ViewingReservation.ReservationStatus status,
+                                                                          Pageable pageable);
+
+    @Query("SELECT new com.example.demo.dto.ViewingReservationDto$ViewingReservationResponseDto(" +
+           "v.id, u.id, u.username, v.status, v.reservationDate, v.createdAt, v.version) " +
+           "FROM ViewingReservation v JOIN v.user u " +
+           "WHERE v.user.id = :userId AND v.status = :status " +
+           "AND (v.reservationDate > :afterDate OR (v.reservationDate = :afterDate AND v.id > :afterId)) " +
+           "ORDER BY v.reservationDate ASC, v.id ASC")
+    Slice<ViewingReservationResponseDto> findSliceByUserIdAndStatusAfter(@Param("userId") Long userId,
+                                                                          @Param("status") ViewingReservation.ReservationStatus status,
+                                                                          @Param("afterDate") LocalDateTime afterDate,
+                                                                          @Param("afterId") UUID afterId,
+                                                                          Pageable pageable);
+
+    @Query("SELECT new com.example.demo.dto.ViewingReservationDto$ViewingReservationResponseDto(" +
+           "v.id, u.id, u.username, v.status, v.reservationDate, v.createdAt, v.version) " +
+           "FROM ViewingReservation v JOIN v.user u " +
+           "WHERE v.user.id = :userId " +
+           "ORDER BY v.reservationDate ASC, v.id ASC")
+    Slice<ViewingReservationResponseDto> findFirstSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT new com.example.demo.dto.ViewingReservationDto$ViewingReservationResponseDto(" +
+           "v.id, u.id, u.username, v.status, v.reservationDate, v.createdAt, v.version) " +
+           "FROM ViewingReservation v JOIN v.user u " +
+           "WHERE v.user.id = :userId " +
+           "AND (v.reservationDate > :afterDate OR (v.reservationDate = :afterDate AND v.id > :afterId)) " +
+           "ORDER BY v.reservationDate ASC, v.id ASC")
+    Slice<ViewingReservationResponseDto> findSliceByUserIdAfter(@Param("userId") Long userId,
+                                                                 @Param("afterDate") LocalDateTime afterDate,
+                                                                 @Param("afterId") UUID afterId,
+                                                                 Pageable pageable);
+
+    // 일괄 상태 변경(ReservationBulkStatusService) 검증용: ID 목록의 현재 상태를 IN 쿼리 한 번으로 조회
+    // [0] id, [1] userId, [2] status, [3] reservationDate, [4] version
+    @Query("SELECT v.id, v.user.id, v.status, v.reservationDate, v.version FROM ViewingReservation v WHERE v.id IN :ids")
+    List<Object[]> findStatesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // ==================== 내보내기 (ReservationExportService) ====================
+    // MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때만 결과를 한 행씩 스트리밍한다 (기본은 전체를 메모리에 적재).
+    // 생성자 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않으므로 행 수와 무관하게 메모리가 일정하다.
+    // 반환된 Stream은 트랜잭션 안에서 소비하고 닫아야 한다.
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.demo.dto.ViewingReservationDto$ViewingReservationResponseDto(" +
+           "v.id, u.id, u.username, v.status, v.reservationDate, v.createdAt, v.version) " +
+           "FROM ViewingReservation v JOIN v.user u " +
+           "WHERE v.reservationDate >= :from AND v.reservationDate < :to " +
+           "ORDER BY v.reservationDate ASC")
+    Stream<ViewingReservationResponseDto> streamResponsesByReservationDate(@Param("from") LocalDateTime from,
+                                                                          @Param("to") LocalDateTime to);
+
+    // ==================== 만료 처리 (ReservationExpiryJob) ====================
+    // (status, created_at) 인덱스 범위를 오래된 순으로 읽어 청크 단위로 잠근다.
+    // SKIP LOCKED(lock timeout -2): 다른 트랜잭션이 잡고 있는 행은 기다리지 않고 건너뛰어 OLTP를 막지 않는다.
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT v FROM ViewingReservation v " +
+           "WHERE v.status = :status AND v.createdAt < :createdBefore " +
+           "ORDER BY v.createdAt ASC")
+    List<ViewingReservation> lockExpiredChunk(@Param("status") ViewingReservation.ReservationStatus status,
+                                              @Param("createdBefore") LocalDateTime createdBefore,
+                                              Pageable pageable);
 
-    @Query(value = "SELECT v FROM ViewingReservation v WHERE v.user.id = :userId AND (:status IS NULL OR v.status = :status)")
-    List<ViewingReservation> findByUserIdAndStatus(@Param("userId") Long userId, @Param("status") ViewingReservation.ReservationStatus status);
+    // 잠근 청크를 UPDATE 한 번으로 처리. 잠근 뒤 상태가 바뀐 행은 건드리지 않고, 버전을 올려 수정 중인 클라이언트가 충돌을 알 수 있게 한다
+    @Modifying
+    @Query("UPDATE ViewingReservation v SET v.status = :newStatus, v.version = v.version + 1 " +
+           "WHERE v.id IN :ids AND v.status = :expectedStatus")
+    int bulkUpdateStatus(@Param("ids") Collection<UUID> ids,
+                         @Param("expectedStatus") ViewingReservation.ReservationStatus expectedStatus,
+                         @Param("newStatus") ViewingReservation.ReservationStatus newStatus);
 }
@@ -0,0 +1,222 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ViewingReservationDto.BulkStatusItemResultDto;
+import com.example.demo.dto.ViewingReservationDto.BulkStatusOutcome;
+import com.example.demo.dto.ViewingReservationDto.BulkStatusUpdateDto;
+import com.example.demo.dto.ViewingReservationDto.BulkStatusUpdateResultDto;
+import com.example.demo.entity.ViewingReservation;
+import com.example.demo.entity.ViewingReservation.ReservationStatus;
+import com.example.demo.exception.SlotFullException;
+import com.example.demo.repository.ViewingReservationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 영화 예매 일괄 상태 변경
+ *
+ * ID마다 조회 + 저장 트랜잭션을 반복하는 대신 한 트랜잭션에서
+ * 1. IN 쿼리로 현재 상태/버전을 한 번에 검증하고
+ * 2. 버전 조건이 붙은 UPDATE를 JDBC 배치로 실행한다 (rewriteBatchedStatements로 왕복 횟수 감소)
+ * 3. 드라이버가 건별 결과를 주지 않은 행(SUCCESS_NO_INFO)은 같은 트랜잭션에서 버전을 다시 읽어 판정한다
+ * 배치 UPDATE는 Hibernate를 거치지 않으므로 변경된 예매는 커밋 후 2차 캐시에서 직접 제거한다.
+ *
+ * 처리량은 요청 수가 아니라 행 수로 본다 (reservation.bulk.status.rows 카운터, 응답의 rowsPerSecond).
+ */
+@Service
+public class ReservationBulkStatusService {
+
+    public static final int MAX_IDS = 5000;
+    private static final int IN_CLAUSE_CHUNK = 1000;
+    private static final int JDBC_BATCH_SIZE = 500;
+    private static final String UPDATE_SQL =
+            "UPDATE viewing_reservations SET status = ?, version = version + 1 WHERE id = ? AND version = ?";
+
+    private final ViewingReservationRepository viewingReservationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final SlotCapacityLedger slotCapacityLedger;
+    private final ReservationStatusOutbox reservationStatusOutbox;
+    private final ReservationStatistics reservationStatistics;
+    private final ResourceETagCache etagCache;
+    private final MeterRegistry meterRegistry;
+
+    public ReservationBulkStatusService(ViewingReservationRepository viewingReservationRepository,
+                                        JdbcTemplate jdbcTemplate,
+                                        EntityManagerFactory entityManagerFactory,
+                                        SlotCapacityLedger slotCapacityLedger,
+                                        ReservationStatusOutbox reservationStatusOutbox,
+                                        ReservationStatistics reservationStatistics,
+                                        ResourceETagCache etagCache,
+                                        MeterRegistry meterRegistry) {
+        this.viewingReservationRepository = viewingReservationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.slotCapacityLedger = slotCapacityLedger;
+        this.reservationStatusOutbox = reservationStatusOutbox;
+        this.reservationStatistics = reservationStatistics;
+        this.etagCache = etagCache;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Transactional
+    public BulkStatusUpdateResultDto updateStatuses(BulkStatusUpdateDto request) {
+        long startedAt = System.nanoTime();
+        if (request.getStatus() == null || request.getIds() == null || request.getIds().isEmpty()) {
+            throw new IllegalArgumentException("ids and status are required");
+        }
+        List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(request.getIds()));
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " ids can be updated at once");
+        }
+        ReservationStatus target = request.getStatus();
+
+        Map<UUID, ReservationState> states = loadStates(ids);
+        Map<UUID, BulkStatusItemResultDto> results = new HashMap<>();
+        List<ReservationState> candidates = new ArrayList<>();
+        for (UUID id : ids) {
+            ReservationState state = states.get(id);
+            if (state == null) {
+                results.put(id, new BulkStatusItemResultDto(id, BulkStatusOutcome.NOT_FOUND, null, null));
+            } else if (state.status() == target) {
+                results.put(id, new BulkStatusItemResultDto(id, BulkStatusOutcome.UNCHANGED, state.status(), state.version()));
+            } else if (state.status() == ReservationStatus.CANCELLED) {
+                // 취소된 예매를 되살릴 때는 자리를 먼저 확보해야 정원을 넘지 않는다
+                try {
+                    slotCapacityLedger.acquireInTransaction(state.reservationDate());
+                    candidates.add(state);
+                } catch (SlotFullException e) {
+                    results.put(id, new BulkStatusItemResultDto(id, BulkStatusOutcome.SLOT_FULL, state.status(), state.version()));
+                }
+            } else {
+                candidates.add(state);
+            }
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, candidates, JDBC_BATCH_SIZE, (ps, state) -> {
+            ps.setString(1, target.name());
+            ps.setBytes(2, toBytes(state.id()));
+            ps.setLong(3, state.version());
+        });
+
+        List<ReservationState> unknown = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (counts[i / JDBC_BATCH_SIZE][i % JDBC_BATCH_SIZE] == Statement.SUCCESS_NO_INFO) {
+                unknown.add(candidates.get(i));
+            }
+        }
+        Map<UUID, ReservationState> afterUpdate = unknown.isEmpty()
+                ? Map.of()
+                : loadStates(unknown.stream().map(ReservationState::id).toList());
+
+        Map<ReservationStatus, List<UUID>> updatedByPreviousStatus = new EnumMap<>(ReservationStatus.class);
+        List<UUID> updatedIds = new ArrayList<>();
+        List<LocalDateTime> releasedSlots = new ArrayList<>();
+        List<ReservationStatistics.Change> changes = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            ReservationState state = candidates.get(i);
+            int count = counts[i / JDBC_BATCH_SIZE][i % JDBC_BATCH_SIZE];
+            boolean updated = count == Statement.SUCCESS_NO_INFO
+                    ? updatedByThisTransaction(state, afterUpdate.get(state.id()), target)
+                    : count > 0;
+            boolean reactivated = state.status() == ReservationStatus.CANCELLED;
+            if (!updated) {
+                if (reactivated) {
+                    // 롤백되면 acquireInTransaction이, 커밋되면 여기서 반납한다
+                    releasedSlots.add(state.reservationDate());
+                }
+                results.put(state.id(), new BulkStatusItemResultDto(state.id(), BulkStatusOutcome.CONFLICT, state.status(), state.version()));
+                continue;
+            }
+            if (!reactivated && target == ReservationStatus.CANCELLED) {
+                releasedSlots.add(state.reservationDate());
+            }
+            changes.add(new ReservationStatistics.Change(state.userId(), state.reservationDate(), state.status(), state.reservationDate(), target));
+            updatedByPreviousStatus.computeIfAbsent(state.status(), s -> new ArrayList<>()).add(state.id());
+            updatedIds.add(state.id());
+            results.put(state.id(), new BulkStatusItemResultDto(state.id(), BulkStatusOutcome.UPDATED, state.status(), state.version() + 1));
+        }
+
+        // 커밋 후 처리는 행마다가 아니라 배치 전체에 대해 한 번씩 등록한다
+        slotCapacityLedger.releaseAllAfterCommit(releasedSlots);
+        reservationStatistics.recordChanges(changes);
+        updatedByPreviousStatus.forEach((previous, changed) -> reservationStatusOutbox.appendAll(changed, previous, target));
+        evictFromSecondLevelCacheAfterCommit(updatedIds);
+        etagCache.evictReservationsAfterCommit(updatedIds);
+
+        List<BulkStatusItemResultDto> ordered = ids.stream().map(results::get).toList();
+        Map<BulkStatusOutcome, Long> outcomes = new EnumMap<>(BulkStatusOutcome.class);
+        ordered.forEach(result -> outcomes.merge(result.getOutcome(), 1L, Long::sum));
+        outcomes.forEach((outcome, rows) ->
+                meterRegistry.counter("reservation.bulk.status.rows", "outcome", outcome.name()).increment(rows));
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        double rowsPerSecond = ids.size() / Math.max(elapsedNanos / 1_000_000_000.0, 1e-9);
+        return new BulkStatusUpdateResultDto(ids.size(), updatedIds.size(), elapsedNanos / 1_000_000, rowsPerSecond, ordered);
+    }
+
+    /**
+     * 건별 결과가 없는 행의 판정: UPDATE 뒤 다시 읽은 버전이 검증 때보다 정확히 1 크고 상태가 목표 상태면 이 트랜잭션이 바꾼 것
+     * MySQL 기본 격리 수준(REPEATABLE READ)에서 일반 SELECT는 이 트랜잭션의 변경과 첫 조회 시점의 스냅샷만 보므로,
+     * 그 사이 다른 트랜잭션이 커밋한 변경을 이 트랜잭션의 변경으로 착각하지 않는다
+     */
+    private static boolean updatedByThisTransaction(ReservationState before, ReservationState after, ReservationStatus target) {
+        return after != null
+                && after.status() == target
+                && after.version() == before.version() + 1;
+    }
+
+    /**
+     * IN 목록이 너무 길어지지 않도록 나누어 조회
+     */
+    private Map<UUID, ReservationState> loadStates(List<UUID> ids) {
+        Map<UUID, ReservationState> states = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK, ids.size()));
+            for (Object[] row : viewingReservationRepository.findStatesByIdIn(chunk)) {
+                ReservationState state = new ReservationState((UUID) row[0], (Long) row[1],
+                        (ReservationStatus) row[2], (LocalDateTime) row[3], (Long) row[4]);
+                states.put(state.id(), state);
+            }
+        }
+        return states;
+    }
+
+    private void evictFromSecondLevelCacheAfterCommit(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(id -> entityManagerFactory.getCache().evict(ViewingReservation.class, id));
+            }
+        });
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private record ReservationState(UUID id, Long userId, ReservationStatus status,
+                                    LocalDateTime reservationDate, Long version) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ReservationProperties;
+import com.example.demo.entity.ViewingReservation;
+import com.example.demo.entity.ViewingReservation.ReservationStatus;
+import com.example.demo.repository.ViewingReservationRepository;
+import com.example.demo.service.ReservationsExpiredEvent.ExpiredReservation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 오래된 PENDING 예매 만료 작업
+ * NestJS의 @Cron() 작업과 비슷
+ *
+ * 엔티티를 하나씩 읽고 저장하는 대신 청크 단위로 처리한다.
+ * 1. (status, created_at) 인덱스로 만료 대상을 오래된 순으로 chunk-size개 잠근다 (SKIP LOCKED)
+ * 2. 잠근 행을 UPDATE 한 번으로 CANCELLED 처리하고, 아웃박스 알림을 INSERT ... SELECT 한 번으로 기록한다
+ * 3. 청크당 ReservationsExpiredEvent 하나를 발행한다
+ *
+ * 청크마다 트랜잭션을 따로 커밋하므로 잠금은 청크 하나를 처리하는 동안만 유지되고,
+ * 사용자 요청이 잡고 있는 행은 건너뛰었다가 다음 실행에서 처리한다.
+ */
+@Component
+public class ReservationExpiryJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationExpiryJob.class);
+
+    private final ViewingReservationRepository viewingReservationRepository;
+    private final ReservationStatusOutbox reservationStatusOutbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ReservationProperties.Expiry settings;
+
+    public ReservationExpiryJob(ViewingReservationRepository viewingReservationRepository,
+                                ReservationStatusOutbox reservationStatusOutbox,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                ReservationProperties properties) {
+        this.viewingReservationRepository = viewingReservationRepository;
+        this.reservationStatusOutbox = reservationStatusOutbox;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settings = properties.getExpiry();
+        // 청크 하나가 커넥션과 잠금을 오래 붙잡지 않도록 제한 (초)
+        this.transactionTemplate.setTimeout(30);
+    }
+
+    @Scheduled(fixedDelayString = "${app.reservation.expiry.interval:1m}")
+    public void expireStalePending() {
+        LocalDateTime createdBefore = LocalDateTime.now().minus(settings.getPendingTtl());
+        int total = 0;
+        for (int chunk = 0; chunk < settings.getMaxChunksPerRun(); chunk++) {
+            int expired;
+            try {
+                expired = expireChunk(createdBefore);
+            } catch (RuntimeException e) {
+                log.warn("예매 만료 청크 처리 실패, 다음 실행에서 재시도: {}", e.getMessage());
+                break;
+            }
+            total += expired;
+            if (expired < settings.getChunkSize()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("PENDING 예매 {}건 만료 처리 ({} 이전 생성)", total, createdBefore);
+        }
+    }
+
+    /**
+     * 청크 하나를 자체 트랜잭션에서 만료 처리하고 처리한 건수를 반환
+     */
+    private int expireChunk(LocalDateTime createdBefore) {
+        Integer expired = transactionTemplate.execute(status -> {
+            List<ViewingReservation> locked = viewingReservationRepository.lockExpiredChunk(
+                    ReservationStatus.PENDING, createdBefore, PageRequest.of(0, settings.getChunkSize()));
+            if (locked.isEmpty()) {
+                return 0;
+            }
+
+            List<UUID> ids = locked.stream().map(ViewingReservation::getId).toList();
+            reservationStatusOutbox.appendAll(ids, ReservationStatus.PENDING, ReservationStatus.CANCELLED);
+            viewingReservationRepository.bulkUpdateStatus(ids, ReservationStatus.PENDING, ReservationStatus.CANCELLED);
+
+            // 잠근 행은 다른 트랜잭션이 바꿀 수 없으므로 조회 결과가 곧 만료된 예매 목록
+            List<ExpiredReservation> expiredReservations = locked.stream()
+                    .map(v -> new ExpiredReservation(v.getId(), v.getUser().getId(), v.getReservationDate()))
+                    .toList();
+            eventPublisher.publishEvent(new ReservationsExpiredEvent(expiredReservations, LocalDateTime.now()));
+            return locked.size();
+        });
+        return expired != null ? expired : 0;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ViewingReservationDto.ViewingReservationResponseDto;
+import com.example.demo.repository.ViewingReservationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 영화 예매 내보내기 (gzip CSV / NDJSON 스트리밍)
+ *
+ * 페이지 API를 반복 호출하면 페이지마다 COUNT와 OFFSET 스캔이 반복되므로,
+ * 예매일 범위를 인덱스로 한 번만 순방향으로 읽으면서 행 단위로 바로 압축해 응답에 쓴다.
+ * 결과 전체를 메모리에 올리지 않으므로 건수와 무관하게 메모리 사용량이 일정하다.
+ */
+@Service
+public class ReservationExportService {
+
+    // 이 건수마다 압축 버퍼를 비워 클라이언트가 조금씩 받아볼 수 있게 한다
+    private static final int FLUSH_EVERY_ROWS = 1000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] CSV_HEADER = "id,user_id,username,status,reservation_date,created_at,version\n"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final ViewingReservationRepository viewingReservationRepository;
+    private final ObjectWriter jsonWriter;
+
+    public ReservationExportService(ViewingReservationRepository viewingReservationRepository, ObjectMapper objectMapper) {
+        this.viewingReservationRepository = viewingReservationRepository;
+        this.jsonWriter = objectMapper.writerFor(ViewingReservationResponseDto.class);
+    }
+
+    public enum ExportFormat {
+        CSV("csv"),
+        NDJSON("ndjson");
+
+        private final String extension;
+
+        ExportFormat(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * from ~ to(포함) 예매일의 예매를 gzip으로 압축해 out에 쓴다
+     * 스트리밍 쿼리는 커서가 열려 있는 동안 커넥션을 잡으므로 읽기 전용 트랜잭션(레플리카)에서 실행한다
+     */
+    @Transactional(readOnly = true)
+    public long export(LocalDate from, LocalDate to, ExportFormat format, OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE, true);
+        OutputStream buffered = new BufferedOutputStream(gzip, BUFFER_SIZE);
+        long rows = 0;
+        try (Stream<ViewingReservationResponseDto> stream = viewingReservationRepository.streamResponsesByReservationDate(
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+            if (format == ExportFormat.CSV) {
+                buffered.write(CSV_HEADER);
+            }
+            Iterator<ViewingReservationResponseDto> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                ViewingReservationResponseDto row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsv(buffered, row);
+                } else {
+                    buffered.write(jsonWriter.writeValueAsBytes(row));
+                    buffered.write('\n');
+                }
+                if (++rows % FLUSH_EVERY_ROWS == 0) {
+                    buffered.flush();
+                }
+            }
+        }
+        buffered.flush();
+        gzip.finish();
+        return rows;
+    }
+
+    private static void writeCsv(OutputStream out, ViewingReservationResponseDto row) throws IOException {
+        StringBuilder line = new StringBuilder(128)
+                .append(row.getId()).append(',')
+                .append(row.getUserId()).append(',');
+        appendCsvField(line, row.getUsername());
+        line.append(',')
+                .append(row.getStatus()).append(',')
+                .append(row.getReservationDate()).append(',')
+                .append(row.getCreatedAt()).append(',')
+                .append(row.getVersion()).append('\n');
+        out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendCsvField(StringBuilder line, String value) {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            line.append(value);
+            return;
+        }
+        line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ReservationProperties;
+import com.example.demo.dto.ViewingReservationDto.ViewingReservationResponseDto;
+import com.example.demo.exception.IdempotencyKeyReusedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 예매 생성 Idempotency-Key 저장소
+ * NestJS에서 interceptor + cache-manager로 멱등 키를 처리하는 방식과 비슷
+ *
+ * 키는 사용자 범위(scope)로 나누어 다른 사용자의 키와 섞이지 않는다.
+ * 처음 들어온 요청만 실제로 예매를 만들고, 같은 키의 재시도는 저장된 응답을 돌려받는다.
+ * 처리 중에 도착한 재시도는 같은 CompletableFuture를 기다리므로 중복 예매가 생기지 않는다.
+ *
+ * 키는 호출자의 대기 결과가 아니라 저장 대기열에 들어간 쓰기(CompletableFuture)의 결과에 묶인다.
+ * 응답 대기가 시간 초과로 끝나도 쓰기는 계속 진행 중이므로 키를 유지하고, 재시도는 그 쓰기의 결과를 받는다.
+ * 쓰기 자체가 실패했을 때만 키를 지워 클라이언트가 다시 시도할 수 있게 한다.
+ */
+@Component
+public class ReservationIdempotencyStore {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ConcurrentMap<String, Entry> entries;
+
+    public ReservationIdempotencyStore(ReservationProperties properties) {
+        Cache<String, Entry> cache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getIdempotency().getTtl())
+                .maximumSize(properties.getIdempotency().getMaxKeys())
+                .build();
+        this.entries = cache.asMap();
+    }
+
+    /**
+     * 키로 한 번만 submit을 실행하고, 그 쓰기의 결과를 await(시간 제한 있는 대기)로 받는다
+     * 같은 키에 다른 요청 본문이 오면 IdempotencyKeyReusedException
+     */
+    public Result execute(String scope, String idempotencyKey, Object request,
+                          Supplier<CompletableFuture<ViewingReservationResponseDto>> submit,
+                          Function<CompletableFuture<ViewingReservationResponseDto>, ViewingReservationResponseDto> await) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다");
+        }
+        String key = scope + ":" + idempotencyKey;
+        Entry mine = new Entry(request, new CompletableFuture<>());
+        Entry existing = entries.putIfAbsent(key, mine);
+        if (existing != null) {
+            if (!existing.request().equals(request)) {
+                throw new IdempotencyKeyReusedException(idempotencyKey);
+            }
+            return new Result(await.apply(existing.response()), true);
+        }
+
+        CompletableFuture<ViewingReservationResponseDto> write;
+        try {
+            write = submit.get();
+        } catch (RuntimeException e) {
+            // 대기열에 들어가지 못했으면(정원 초과, 대기열 가득 참 등) 저장될 예매가 없다
+            fail(key, mine, e);
+            throw e;
+        }
+        write.whenComplete((response, failure) -> {
+            if (failure != null) {
+                fail(key, mine, failure);
+            } else {
+                mine.response().complete(response);
+            }
+        });
+        return new Result(await.apply(mine.response()), false);
+    }
+
+    private void fail(String key, Entry entry, Throwable failure) {
+        entries.remove(key, entry);
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        entry.response().completeExceptionally(cause);
+    }
+
+    /**
+     * replayed: 저장된 응답을 돌려준 경우 true
+     */
+    public record Result(ViewingReservationResponseDto response, boolean replayed) {
+    }
+
+    private record Entry(Object request, CompletableFuture<ViewingReservationResponseDto> response) {
+    }
+}
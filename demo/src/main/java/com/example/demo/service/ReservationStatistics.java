@@ -0,0 +1,196 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.ViewingReservation.ReservationStatus;
+import com.example.demo.repository.ViewingReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 영화 예매 통계 카운터 (상태별 / 예매일별 / 사용자별)
+ * 관리자 대시보드가 OLTP 테이블에 GROUP BY를 날리지 않도록 쓰기 경로에서 증분으로 유지한다.
+ *
+ * LongAdder는 스레드별 셀에 나누어 더하므로 동시 증가에도 CAS 경합이 거의 없고,
+ * 조회는 셀 합산뿐이라 테이블 크기와 무관하다.
+ * 증감은 커밋된 변경만 반영되도록 트랜잭션 커밋 후에 적용한다.
+ *
+ * 재구성(rebuild)은 읽기 전용 트랜잭션(레플리카)에서 GROUP BY 한 번으로 새 카운터를 만든 뒤 통째로 교체한다.
+ * 재구성 쿼리가 도는 동안 커밋된 변경은 새 카운터에 빠질 수 있으므로 한가한 시간에 실행하는 것이 좋다.
+ */
+@Component
+public class ReservationStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationStatistics.class);
+
+    private final ViewingReservationRepository viewingReservationRepository;
+
+    private volatile Counters counters = new Counters();
+
+    public ReservationStatistics(ViewingReservationRepository viewingReservationRepository) {
+        this.viewingReservationRepository = viewingReservationRepository;
+    }
+
+    /**
+     * 예매 하나의 (예매일시, 상태) 변경을 반영. 생성은 previous가 null, 삭제는 next가 null
+     * 트랜잭션 안이면 커밋 후에, 밖이면 바로 적용한다
+     */
+    public void recordChange(Long userId,
+                             LocalDateTime previousDate, ReservationStatus previousStatus,
+                             LocalDateTime nextDate, ReservationStatus nextStatus) {
+        recordChanges(List.of(new Change(userId, previousDate, previousStatus, nextDate, nextStatus)));
+    }
+
+    /**
+     * 여러 예매의 변경을 한 번에 반영 (일괄 처리용). 트랜잭션 동기화는 변경 수와 무관하게 하나만 등록한다
+     */
+    public void recordChanges(List<Change> changes) {
+        List<Change> effective = changes.stream()
+                .filter(change -> change.previousStatus() != change.nextStatus() || !sameDay(change.previousDate(), change.nextDate()))
+                .toList();
+        if (effective.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            Counters current = counters;
+            for (Change change : effective) {
+                if (change.previousStatus() != null) {
+                    current.add(change.userId(), change.previousDate(), change.previousStatus(), -1);
+                }
+                if (change.nextStatus() != null) {
+                    current.add(change.userId(), change.nextDate(), change.nextStatus(), 1);
+                }
+            }
+        });
+    }
+
+    /**
+     * 만료 작업이 커밋한 청크 반영 (PENDING -> CANCELLED)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationsExpired(ReservationsExpiredEvent event) {
+        Counters current = counters;
+        event.reservations().forEach(expired -> {
+            current.add(expired.userId(), expired.reservationDate(), ReservationStatus.PENDING, -1);
+            current.add(expired.userId(), expired.reservationDate(), ReservationStatus.CANCELLED, 1);
+        });
+    }
+
+    public Map<ReservationStatus, Long> countByStatus() {
+        return Counters.snapshot(counters.byStatus);
+    }
+
+    public Map<ReservationStatus, Long> countByDay(LocalDate day) {
+        return Counters.snapshot(counters.byDay.get(day));
+    }
+
+    public Map<ReservationStatus, Long> countByUser(Long userId) {
+        return Counters.snapshot(counters.byUser.get(userId));
+    }
+
+    public LocalDateTime getRebuiltAt() {
+        return counters.rebuiltAt;
+    }
+
+    /**
+     * 기본 테이블에서 카운터를 다시 만든다 (시작 시 1회 + 관리자 요청 시)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Object[]> rows = viewingReservationRepository.countGroupByUserDayAndStatus();
+        Counters rebuilt = new Counters();
+        for (Object[] row : rows) {
+            Long userId = (Long) row[0];
+            LocalDate day = (LocalDate) row[1];
+            ReservationStatus status = (ReservationStatus) row[2];
+            long count = ((Number) row[3]).longValue();
+            rebuilt.add(userId, day, status, count);
+        }
+        rebuilt.rebuiltAt = LocalDateTime.now();
+        counters = rebuilt;
+        log.info("예매 통계 재구성 완료: 집계 행 {}개", rows.size());
+    }
+
+    /**
+     * 예매 하나의 (예매일시, 상태) 변경. 생성은 previous가 null, 삭제는 next가 null
+     */
+    public record Change(Long userId,
+                         LocalDateTime previousDate, ReservationStatus previousStatus,
+                         LocalDateTime nextDate, ReservationStatus nextStatus) {
+    }
+
+    private static boolean sameDay(LocalDateTime a, LocalDateTime b) {
+        return a == null ? b == null : b != null && a.toLocalDate().equals(b.toLocalDate());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 상태 ordinal로 인덱싱한 LongAdder 배열 묶음
+     */
+    private static final class Counters {
+        private static final ReservationStatus[] STATUSES = ReservationStatus.values();
+
+        private final LongAdder[] byStatus = newAdders();
+        private final Map<LocalDate, LongAdder[]> byDay = new ConcurrentHashMap<>();
+        private final Map<Long, LongAdder[]> byUser = new ConcurrentHashMap<>();
+        private volatile LocalDateTime rebuiltAt;
+
+        void add(Long userId, LocalDateTime reservationDate, ReservationStatus status, long delta) {
+            add(userId, reservationDate != null ? reservationDate.toLocalDate() : null, status, delta);
+        }
+
+        void add(Long userId, LocalDate day, ReservationStatus status, long delta) {
+            int index = status.ordinal();
+            byStatus[index].add(delta);
+            if (day != null) {
+                byDay.computeIfAbsent(day, d -> newAdders())[index].add(delta);
+            }
+            if (userId != null) {
+                byUser.computeIfAbsent(userId, u -> newAdders())[index].add(delta);
+            }
+        }
+
+        static LongAdder[] newAdders() {
+            LongAdder[] adders = new LongAdder[STATUSES.length];
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+
+        static Map<ReservationStatus, Long> snapshot(LongAdder[] adders) {
+            Map<ReservationStatus, Long> counts = new EnumMap<>(ReservationStatus.class);
+            for (ReservationStatus status : STATUSES) {
+                counts.put(status, adders != null ? adders[status.ordinal()].sum() : 0L);
+            }
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ReservationProperties;
+import com.example.demo.dto.ViewingReservationDto.ReservationStatusMessage;
+import com.example.demo.entity.ReservationOutboxEvent;
+import com.example.demo.entity.ViewingReservation;
+import com.example.demo.entity.ViewingReservation.ReservationStatus;
+import com.example.demo.repository.ReservationOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 영화 예매 상태 변경 트랜잭셔널 아웃박스
+ * NestJS에서 EventEmitter2로 이벤트를 발행하고 Gateway가 server.to(user).emit() 하는 흐름과 비슷
+ *
+ * 1. 상태 변경 트랜잭션 안에서 아웃박스 행을 함께 기록한다 (상태 변경이 롤백되면 알림도 사라진다)
+ * 2. 커밋 후 비동기로 아웃박스를 비우면서 소유자의 /user/queue/reservations 로 전송한다
+ * 3. 커밋 직후 전송이 누락된 행은 주기적인 폴링으로 다시 전송한다
+ *
+ * 클라이언트는 예매 목록을 폴링하는 대신 이 큐를 구독하면 된다.
+ */
+@Component
+public class ReservationStatusOutbox {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationStatusOutbox.class);
+
+    public static final String DESTINATION = "/queue/reservations";
+
+    private final ReservationOutboxRepository reservationOutboxRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    // 비우기는 한 스레드만 수행하고, 수행 중 들어온 요청은 끝난 뒤 한 번 더 비우는 것으로 합친다
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    public ReservationStatusOutbox(ReservationOutboxRepository reservationOutboxRepository,
+                                   SimpMessagingTemplate messagingTemplate,
+                                   ApplicationEventPublisher eventPublisher,
+                                   PlatformTransactionManager transactionManager,
+                                   ReservationProperties properties) {
+        this.reservationOutboxRepository = reservationOutboxRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = properties.getOutbox().getBatchSize();
+    }
+
+    /**
+     * 현재 트랜잭션에 상태 변경 이벤트를 기록. 상태가 그대로면 아무것도 하지 않는다
+     */
+    public void append(ViewingReservation viewingReservation, ReservationStatus previousStatus) {
+        if (viewingReservation.getStatus() == previousStatus || viewingReservation.getUser() == null) {
+            return;
+        }
+        reservationOutboxRepository.save(ReservationOutboxEvent.builder()
+                .reservationId(viewingReservation.getId())
+                .userId(viewingReservation.getUser().getId())
+                .previousStatus(previousStatus)
+                .status(viewingReservation.getStatus())
+                .occurredAt(LocalDateTime.now())
+                .build());
+        eventPublisher.publishEvent(new Appended());
+    }
+
+    /**
+     * 현재 트랜잭션에 여러 예매의 같은 상태 변경을 INSERT ... SELECT 한 번으로 기록
+     */
+    public void appendAll(Collection<UUID> reservationIds, ReservationStatus previousStatus, ReservationStatus status) {
+        if (reservationIds.isEmpty()) {
+            return;
+        }
+        reservationOutboxRepository.insertForReservations(reservationIds, previousStatus, status, LocalDateTime.now());
+        eventPublisher.publishEvent(new Appended());
+    }
+
+    /**
+     * 상태 변경 트랜잭션 커밋 후 요청 스레드와 분리해서 전송
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppended(Appended event) {
+        drain();
+    }
+
+    /**
+     * 커밋 후 전송이 누락된 이벤트 재전송 (서버 재시작, 비동기 실행 실패 등)
+     */
+    @Scheduled(fixedDelayString = "${app.reservation.outbox.poll-interval:5s}")
+    public void drain() {
+        requested.set(true);
+        while (requested.get() && draining.compareAndSet(false, true)) {
+            try {
+                requested.set(false);
+                while (drainBatch() == batchSize) {
+                    // 한 배치가 가득 찼으면 남은 이벤트가 더 있을 수 있다
+                }
+            } catch (RuntimeException e) {
+                log.warn("예매 상태 아웃박스 전송 실패, 다음 주기에 재시도: {}", e.getMessage());
+                return;
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * 한 배치를 읽어 전송하고 삭제. 레플리카 지연을 피하려고 쓰기 트랜잭션(프라이머리)에서 읽는다
+     */
+    private int drainBatch() {
+        Pageable limit = PageRequest.of(0, batchSize);
+        Integer drained = transactionTemplate.execute(status -> {
+            List<Object[]> rows = reservationOutboxRepository.findPendingWithUsername(limit);
+            List<Long> ids = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                ReservationOutboxEvent event = (ReservationOutboxEvent) row[0];
+                String username = (String) row[1];
+                if (username != null) {
+                    messagingTemplate.convertAndSendToUser(username, DESTINATION, new ReservationStatusMessage(
+                            event.getReservationId(), event.getPreviousStatus(), event.getStatus(), event.getOccurredAt()));
+                }
+                ids.add(event.getId());
+            }
+            if (!ids.isEmpty()) {
+                reservationOutboxRepository.deleteAllByIdInBatch(ids);
+            }
+            return rows.size();
+        });
+        return drained != null ? drained : 0;
+    }
+
+    /**
+     * 아웃박스에 이벤트가 기록되었음을 알리는 애플리케이션 이벤트
+     */
+    public record Appended() {
+    }
+}
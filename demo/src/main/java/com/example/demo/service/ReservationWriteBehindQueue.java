@@ -0,0 +1,244 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ReservationProperties;
+import com.example.demo.dto.ViewingReservationDto.ViewingReservationResponseDto;
+import com.example.demo.entity.User;
+import com.example.demo.entity.ViewingReservation;
+import com.example.demo.exception.NotFoundException;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.ViewingReservationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 정원 장부에서 수락된 예매를 모아 한 트랜잭션으로 저장하는 쓰기 대기열
+ * 전용 스레드 하나가 대기열을 비우면서 batch-size 만큼(또는 max-linger 동안) 모아 JDBC 배치 INSERT로 저장한다.
+ * 요청 스레드는 CompletableFuture로 자기 예매가 커밋될 때까지 기다린다 (group commit).
+ *
+ * 저장에 실패한 예매는 장부 자리를 반납하고 요청 스레드에 예외로 전달된다.
+ * 사용자가 없는 예매는 배치에서 미리 걸러내 거절하므로 나머지 예매는 그대로 한 번에 저장된다.
+ */
+@Component
+public class ReservationWriteBehindQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationWriteBehindQueue.class);
+
+    private final ViewingReservationRepository viewingReservationRepository;
+    private final UserRepository userRepository;
+    private final SlotCapacityLedger slotCapacityLedger;
+    private final ReservationStatistics reservationStatistics;
+    private final TransactionTemplate transactionTemplate;
+    private final ReservationProperties.WriteBehind settings;
+
+    private final BlockingQueue<PendingWrite> queue;
+    private volatile boolean running;
+    private Thread writer;
+
+    public ReservationWriteBehindQueue(ViewingReservationRepository viewingReservationRepository,
+                                       UserRepository userRepository,
+                                       SlotCapacityLedger slotCapacityLedger,
+                                       ReservationStatistics reservationStatistics,
+                                       PlatformTransactionManager transactionManager,
+                                       ReservationProperties properties) {
+        this.viewingReservationRepository = viewingReservationRepository;
+        this.userRepository = userRepository;
+        this.slotCapacityLedger = slotCapacityLedger;
+        this.reservationStatistics = reservationStatistics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settings = properties.getWriteBehind();
+        this.queue = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("reservation-writer").daemon().start(this::drainLoop);
+    }
+
+    /**
+     * 종료 시 대기열에 남은 예매까지 저장하고 멈춘다
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(settings.getAckTimeout().toMillis());
+    }
+
+    /**
+     * 저장 대기열에 넣는다. 대기열이 가득 찼으면 IllegalStateException
+     */
+    public CompletableFuture<ViewingReservationResponseDto> submit(ViewingReservation viewingReservation) {
+        PendingWrite pending = new PendingWrite(viewingReservation, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            throw new IllegalStateException("예매 저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요");
+        }
+        return pending.result;
+    }
+
+    public long getAckTimeoutMillis() {
+        return settings.getAckTimeout().toMillis();
+    }
+
+    private void drainLoop() {
+        List<PendingWrite> batch = new ArrayList<>(settings.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectBatch(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("예매 배치 저장 중 예기치 못한 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 예매 이후 batch-size가 찰 때까지 최대 max-linger 동안 더 모은다
+     */
+    private void collectBatch(List<PendingWrite> batch) throws InterruptedException {
+        queue.drainTo(batch, settings.getBatchSize() - batch.size());
+        long deadline = System.nanoTime() + settings.getMaxLinger().toNanos();
+        while (batch.size() < settings.getBatchSize()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, settings.getBatchSize() - batch.size());
+        }
+    }
+
+    /**
+     * 배치 저장. 커밋 이후의 처리(completeSaved)는 저장 실패 처리(catch) 밖에서 한다.
+     * 커밋된 예매를 다시 저장하거나 자리를 반납하면 정원 초과 수락과 중복 저장이 생기기 때문이다.
+     */
+    private void flush(List<PendingWrite> batch) {
+        Persisted persisted;
+        try {
+            persisted = transactionTemplate.execute(status -> persist(batch));
+        } catch (RuntimeException batchFailure) {
+            // 배치 중 한 건이라도 실패하면 어떤 예매가 문제인지 가리기 위해 한 건씩 다시 저장
+            log.debug("예매 배치 저장 실패, 건별 저장으로 재시도: {}", batchFailure.getMessage());
+            batch.forEach(this::flushOne);
+            return;
+        }
+        complete(persisted);
+    }
+
+    private void flushOne(PendingWrite pending) {
+        Persisted persisted;
+        try {
+            persisted = transactionTemplate.execute(status -> persist(List.of(pending)));
+        } catch (RuntimeException e) {
+            reject(pending, e);
+            return;
+        }
+        complete(persisted);
+    }
+
+    private void complete(Persisted persisted) {
+        persisted.missingUser().forEach(pending -> reject(pending, NotFoundException.user(pending.viewingReservation.getUser().getId())));
+        for (int i = 0; i < persisted.saved().size(); i++) {
+            completeSaved(persisted.saved().get(i), persisted.responses().get(i));
+        }
+    }
+
+    private void reject(PendingWrite pending, RuntimeException cause) {
+        slotCapacityLedger.release(pending.viewingReservation.getReservationDate());
+        pending.result.completeExceptionally(cause);
+    }
+
+    /**
+     * 커밋된 예매를 통계에 반영하고 요청 스레드에 응답 전달
+     * 통계 반영이 실패해도 예매는 이미 저장됐으므로 응답은 성공으로 전달한다 (통계는 재구성(rebuild)으로 다시 맞출 수 있다)
+     */
+    private void completeSaved(PendingWrite pending, ViewingReservationResponseDto saved) {
+        try {
+            reservationStatistics.recordChange(saved.getUserId(), null, null, saved.getReservationDate(), saved.getStatus());
+        } catch (RuntimeException e) {
+            log.warn("저장된 예매의 통계 반영 실패: {}", saved.getId(), e);
+        } finally {
+            pending.result.complete(saved);
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 배치 저장
+     * 사용자들을 IN 쿼리 한 번으로 미리 읽어 존재 여부를 확인하고, 응답 DTO 변환 시 추가 SELECT가 없게 한다
+     * 사용자가 없는 예매는 예외로 배치 전체를 롤백하지 않고 missingUser로 돌려준다 (커밋 후 거절)
+     */
+    private Persisted persist(List<PendingWrite> batch) {
+        Set<Long> userIds = batch.stream()
+                .map(pending -> pending.viewingReservation.getUser().getId())
+                .collect(Collectors.toSet());
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<PendingWrite> saved = new ArrayList<>(batch.size());
+        List<PendingWrite> missingUser = new ArrayList<>();
+        List<ViewingReservation> entities = new ArrayList<>(batch.size());
+        for (PendingWrite pending : batch) {
+            ViewingReservation viewingReservation = pending.viewingReservation;
+            User user = users.get(viewingReservation.getUser().getId());
+            if (user == null) {
+                missingUser.add(pending);
+                continue;
+            }
+            viewingReservation.setUser(user);
+            // 실패한 배치를 건별로 재시도할 때 롤백된 INSERT에서 할당된 ID/버전이 남지 않도록 초기화
+            viewingReservation.setId(null);
+            viewingReservation.setVersion(null);
+            saved.add(pending);
+            entities.add(viewingReservation);
+        }
+        if (entities.isEmpty()) {
+            return new Persisted(saved, List.of(), missingUser);
+        }
+
+        List<ViewingReservationResponseDto> responses = viewingReservationRepository.saveAll(entities).stream()
+                .map(ViewingReservationResponseDto::fromEntity)
+                .toList();
+        return new Persisted(saved, responses, missingUser);
+    }
+
+    private record PendingWrite(ViewingReservation viewingReservation,
+                                CompletableFuture<ViewingReservationResponseDto> result) {
+    }
+
+    /**
+     * saved와 responses는 같은 순서
+     */
+    private record Persisted(List<PendingWrite> saved,
+                             List<ViewingReservationResponseDto> responses,
+                             List<PendingWrite> missingUser) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 만료 작업 한 청크에서 CANCELLED로 바뀐 예매 목록
+ * 건별 이벤트 대신 청크당 하나만 발행한다. 리스너는 커밋 후(AFTER_COMMIT)에 처리해야 한다.
+ */
+public record ReservationsExpiredEvent(List<ExpiredReservation> reservations, LocalDateTime expiredAt) {
+
+    public record ExpiredReservation(UUID id, Long userId, LocalDateTime reservationDate) {
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ETagProperties;
+import com.example.demo.dto.UserResponseDto;
+import com.example.demo.dto.ViewingReservationDto.ViewingReservationResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회 API용 ETag 캐시
+ * 리소스의 현재 ETag만 메모리에 들고 있어서, If-None-Match가 일치하면 엔티티를 읽지 않고 304를 돌려줄 수 있다.
+ * NestJS에서 etag 미들웨어가 본문 해시로 하는 일을 DB 조회 없이 버전 값으로 하는 것
+ *
+ * ETag는 응답 본문을 결정하는 값으로 만든다
+ * - 사용자: id + updatedAt (모든 수정이 @PreUpdate로 updatedAt을 바꾼다)
+ * - 예매: @Version + 사용자명 해시 (응답에 사용자명이 포함되므로)
+ *
+ * 변경 경로(UserService, ViewingReservationService, 일괄 상태 변경, 만료 작업)는 커밋 후 해당 항목을 지운다.
+ *
+ * 커밋 전에 읽기 시작한 요청이 무효화 뒤에 옛 ETag를 다시 넣지 않도록 세대(generation)로 막는다.
+ * 무효화할 때마다 세대를 올려 항목에 무효화 세대를 남기고(tombstone), 읽기는 시작 시 세대를 받아 두었다가
+ * 그 뒤에 무효화된 키에는 넣지 않는다. 세대 비교와 기록은 키별 compute 안에서 하므로 무효화와 순서가 섞이지 않는다.
+ *
+ * 무효화는 이 인스턴스의 메모리에만 적용된다. 여러 인스턴스로 띄우면 다른 인스턴스에서 한 변경은
+ * TTL(app.http.etag.ttl)이 지나야 반영되므로, TTL이 곧 인스턴스 간 최대 지연이다.
+ */
+@Component
+public class ResourceETagCache {
+
+    private final Cache<Object, Tag> tags;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long allInvalidatedAt;
+    private volatile long reservationsInvalidatedAt;
+
+    public ResourceETagCache(ETagProperties properties) {
+        this.tags = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaxEntries())
+                .build();
+    }
+
+    public String get(Object key) {
+        Tag tag = tags.getIfPresent(key);
+        return tag != null ? tag.etag() : null;
+    }
+
+    /**
+     * 조회를 시작하기 전에 받아 두는 세대. put / invalidatedSince에 그대로 넘긴다
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * loadStartedAt 이후 키가 무효화되지 않았을 때만 ETag를 넣는다
+     */
+    public void put(Object key, String etag, long loadStartedAt) {
+        tags.asMap().compute(key, (k, current) -> {
+            long invalidatedAt = current != null ? current.invalidatedAt() : 0;
+            if (invalidatedAt > loadStartedAt || bulkInvalidatedAt(k) > loadStartedAt) {
+                return current;
+            }
+            return new Tag(etag, invalidatedAt);
+        });
+    }
+
+    /**
+     * since 세대 이후 키가 무효화됐는지 (진행 중인 조회 결과를 재사용해도 되는지 판단용)
+     */
+    public boolean invalidatedSince(Object key, long since) {
+        if (bulkInvalidatedAt(key) > since) {
+            return true;
+        }
+        Tag tag = tags.getIfPresent(key);
+        return tag != null && tag.invalidatedAt() > since;
+    }
+
+    public static UserKey userKey(Long id) {
+        return new UserKey(id);
+    }
+
+    public static UsernameKey usernameKey(String username) {
+        return new UsernameKey(username);
+    }
+
+    public static ReservationKey reservationKey(UUID id) {
+        return new ReservationKey(id);
+    }
+
+    public static String userTag(UserResponseDto user) {
+        long updatedAt = user.getUpdatedAt() != null
+                ? user.getUpdatedAt().toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + user.getUpdatedAt().getNano()
+                : 0;
+        return "\"u" + user.getId() + "-" + Long.toHexString(updatedAt) + "\"";
+    }
+
+    public static String reservationTag(ViewingReservationResponseDto reservation) {
+        int username = reservation.getUsername() != null ? reservation.getUsername().hashCode() : 0;
+        return "\"r" + reservation.getVersion() + "-" + Integer.toHexString(username) + "\"";
+    }
+
+    /**
+     * 사용자 수정 후 (사용자명이 바뀌면 예매 응답의 사용자명도 바뀌므로 예매 ETag도 모두 지운다)
+     */
+    public void evictUserAfterCommit(Long id, String previousUsername, String username) {
+        afterCommit(() -> {
+            invalidate(new UserKey(id));
+            invalidate(new UsernameKey(previousUsername));
+            invalidate(new UsernameKey(username));
+            if (!previousUsername.equals(username)) {
+                evictAllReservations();
+            }
+        });
+    }
+
+    /**
+     * 사용자 삭제는 드물고 사용자명을 따로 읽지 않으므로 사용자 / 예매 항목을 모두 지운다
+     */
+    public void evictAllAfterCommit() {
+        afterCommit(() -> {
+            allInvalidatedAt = generation.incrementAndGet();
+            tags.invalidateAll();
+        });
+    }
+
+    public void evictReservationsAfterCommit(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> ids.forEach(id -> invalidate(new ReservationKey(id))));
+    }
+
+    /**
+     * 만료 작업이 커밋한 청크의 예매 ETag 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationsExpired(ReservationsExpiredEvent event) {
+        event.reservations().forEach(expired -> invalidate(new ReservationKey(expired.id())));
+    }
+
+    /**
+     * ETag 대신 무효화 세대만 남긴다 (TTL 동안 유지되어 그 전에 시작한 조회의 put을 막는다)
+     */
+    private void invalidate(Object key) {
+        tags.put(key, new Tag(null, generation.incrementAndGet()));
+    }
+
+    private void evictAllReservations() {
+        reservationsInvalidatedAt = generation.incrementAndGet();
+        tags.asMap().keySet().removeIf(ReservationKey.class::isInstance);
+    }
+
+    private long bulkInvalidatedAt(Object key) {
+        return key instanceof ReservationKey ? Math.max(allInvalidatedAt, reservationsInvalidatedAt) : allInvalidatedAt;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * etag가 null이면 무효화 표시(tombstone)
+     */
+    private record Tag(String etag, long invalidatedAt) {
+    }
+
+    public record UserKey(Long id) {
+    }
+
+    public record UsernameKey(String username) {
+    }
+
+    public record ReservationKey(UUID id) {
+    }
+}
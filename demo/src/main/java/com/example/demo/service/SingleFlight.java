@@ -0,0 +1,129 @@
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 같은 키의 동시 조회를 한 번의 호출로 합치는 single-flight
+ * NestJS에서 진행 중인 Promise를 Map에 두고 같은 요청이 그 Promise를 await하게 하는 패턴과 같음
+ *
+ * 키별로 먼저 도착한 요청(leader)만 loader를 실행하고, 실행 중에 도착한 요청(follower)은 그 결과를 함께 받는다.
+ * 결과는 저장하지 않으므로 호출이 끝난 뒤 도착한 요청은 다시 조회한다 (캐시가 아니라 동시 요청 병합).
+ * 예외도 follower에게 그대로 전달된다.
+ *
+ * 진행 중인 조회가 시작된 뒤 키가 무효화(변경 커밋)됐으면 그 결과는 옛 값일 수 있으므로 합류하지 않고 새로 조회한다.
+ * 무효화 세대는 ResourceETagCache의 것을 그대로 쓴다 (generation / invalidatedSince).
+ * follower는 leader 결과의 복사본(copyForFollower)을 받으므로 요청 간에 같은 객체를 공유하지 않는다.
+ *
+ * 메트릭 (name = 생성 시 이름, 예: user.lookup)
+ * - {name}.singleflight.calls{role=leader|follower}: 병합 비율 = follower / (leader + follower)
+ * - {name}.singleflight.wait: follower가 leader 결과를 기다린 시간
+ * - {name}.singleflight.in.flight: 실행 중인 키 수
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongSupplier generation;
+    private final InvalidatedSince<K> invalidatedSince;
+    private final UnaryOperator<V> copyForFollower;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Timer followerWait;
+
+    public SingleFlight(String name, String lookup, MeterRegistry meterRegistry,
+                        LongSupplier generation, InvalidatedSince<K> invalidatedSince, UnaryOperator<V> copyForFollower) {
+        this.generation = generation;
+        this.invalidatedSince = invalidatedSince;
+        this.copyForFollower = copyForFollower;
+        this.leaders = Counter.builder(name + ".singleflight.calls")
+                .tag("lookup", lookup).tag("role", "leader")
+                .description("loader를 직접 실행한 호출 수")
+                .register(meterRegistry);
+        this.followers = Counter.builder(name + ".singleflight.calls")
+                .tag("lookup", lookup).tag("role", "follower")
+                .description("진행 중인 호출에 합쳐진 호출 수")
+                .register(meterRegistry);
+        this.followerWait = Timer.builder(name + ".singleflight.wait")
+                .tag("lookup", lookup)
+                .description("follower가 leader 결과를 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        meterRegistry.gauge(name + ".singleflight.in.flight", Tags.of("lookup", lookup),
+                inFlight, ConcurrentMap::size);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        Flight<V> mine = new Flight<>(new CompletableFuture<>(), generation.getAsLong());
+        while (true) {
+            Flight<V> existing = inFlight.putIfAbsent(key, mine);
+            if (existing == null) {
+                break;
+            }
+            if (!invalidatedSince.test(key, existing.startedAt())) {
+                return follow(existing);
+            }
+            // 무효화 전에 시작한 조회: 이후 요청은 새 조회에 합류하도록 자리를 넘겨받는다
+            if (inFlight.replace(key, existing, mine)) {
+                break;
+            }
+        }
+
+        leaders.increment();
+        try {
+            V value = loader.get();
+            mine.result().complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private V follow(Flight<V> flight) {
+        followers.increment();
+        long start = System.nanoTime();
+        try {
+            return copyForFollower.apply(await(flight.result()));
+        } finally {
+            followerWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private V await(CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 키가 generation 세대 이후에 무효화됐는지
+     */
+    @FunctionalInterface
+    public interface InvalidatedSince<K> {
+        boolean test(K key, long generation);
+    }
+
+    private record Flight<V>(CompletableFuture<V> result, long startedAt) {
+    }
+}
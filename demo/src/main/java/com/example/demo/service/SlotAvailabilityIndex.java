@@ -0,0 +1,146 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ReservationProperties;
+import com.example.demo.dto.ViewingReservationDto.DayAvailabilityDto;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 날짜별 시간대 마감 비트맵
+ * 하루의 시간대마다 비트 하나(1 = 정원 마감)를 두고, 64개 시간대를 long 하나에 담는다 (30분 단위면 하루 = long 1개).
+ * 마감된 시간대가 하나도 없는 날은 비트맵을 만들지 않고, 마지막 마감이 풀리면 지우므로 대부분의 날짜는 메모리를 쓰지 않는다.
+ *
+ * SlotCapacityLedger가 정원 도달/해제 시점에만 갱신하고, 조회는 테이블 집계 없이
+ * (~마감 비트 & 시간 범위 마스크) 비트 연산으로 빈 시간대를 구한다.
+ */
+@Component
+public class SlotAvailabilityIndex {
+
+    private final long slotMinutes;
+    private final int slotsPerDay;
+    private final int wordsPerDay;
+
+    private final Map<LocalDate, AtomicLongArray> fullSlotsByDay = new ConcurrentHashMap<>();
+
+    public SlotAvailabilityIndex(ReservationProperties properties) {
+        this.slotMinutes = properties.getSlotLength().toMinutes();
+        this.slotsPerDay = (int) ((24 * 60 + slotMinutes - 1) / slotMinutes);
+        this.wordsPerDay = (slotsPerDay + 63) / 64;
+    }
+
+    /**
+     * 시간대(slot 시작 시각)의 마감 여부 기록
+     * 비트 변경과 빈 비트맵 제거를 compute 안에서 하므로, 제거되는 비트맵에 다른 스레드가 마감 비트를 써서 잃어버리는 일이 없다
+     */
+    public void setFull(LocalDateTime slot, boolean full) {
+        int index = slotIndex(slot.toLocalTime());
+        int word = index >>> 6;
+        long bit = 1L << (index & 63);
+        if (full) {
+            fullSlotsByDay.compute(slot.toLocalDate(), (day, words) -> {
+                AtomicLongArray bitmap = words != null ? words : new AtomicLongArray(wordsPerDay);
+                bitmap.getAndAccumulate(word, bit, (current, mask) -> current | mask);
+                return bitmap;
+            });
+        } else {
+            fullSlotsByDay.computeIfPresent(slot.toLocalDate(), (day, words) -> {
+                words.getAndAccumulate(word, ~bit, (current, mask) -> current & mask);
+                return isEmpty(words) ? null : words;
+            });
+        }
+    }
+
+    /**
+     * 기간 내 날짜별 빈 시간대 시작 시각
+     * fromTime ~ toTime(미포함) 사이에 시작하는 시간대만 대상으로 한다.
+     * toTime이 fromTime보다 이르면 자정을 넘는 범위로 보고 날짜마다 [fromTime, 24:00)과 [00:00, toTime)을 함께 돌려준다 (예: 22:00 ~ 02:00)
+     */
+    public List<DayAvailabilityDto> findFreeSlots(LocalDate from, LocalDate to, LocalTime fromTime, LocalTime toTime) {
+        long[] window = windowMask(fromTime, toTime);
+        List<DayAvailabilityDto> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            AtomicLongArray full = fullSlotsByDay.get(day);
+            List<LocalTime> freeSlots = new ArrayList<>();
+            for (int word = 0; word < wordsPerDay; word++) {
+                long free = window[word] & ~(full != null ? full.get(word) : 0L);
+                while (free != 0) {
+                    int index = (word << 6) + Long.numberOfTrailingZeros(free);
+                    freeSlots.add(LocalTime.MIDNIGHT.plusMinutes(index * slotMinutes));
+                    free &= free - 1;
+                }
+            }
+            days.add(new DayAvailabilityDto(day, freeSlots));
+        }
+        return days;
+    }
+
+    public void clear() {
+        fullSlotsByDay.clear();
+    }
+
+    public void evictBefore(LocalDate day) {
+        fullSlotsByDay.keySet().removeIf(d -> d.isBefore(day));
+    }
+
+    private int slotIndex(LocalTime time) {
+        return (int) ((time.getHour() * 60L + time.getMinute()) / slotMinutes);
+    }
+
+    /**
+     * time 이후(같은 시각 포함)에 시작하는 첫 시간대 번호. 초/나노초까지 비교하므로 10:30:01이면 10:30 시간대는 제외된다
+     */
+    private int firstSlotAtOrAfter(LocalTime time) {
+        long slotNanos = TimeUnit.MINUTES.toNanos(slotMinutes);
+        return (int) Math.min((time.toNanoOfDay() + slotNanos - 1) / slotNanos, slotsPerDay);
+    }
+
+    /**
+     * [fromTime, toTime) 에 시작하는 시간대 비트만 1인 마스크. fromTime이 null이면 하루 처음부터, toTime이 null이면 하루 끝까지
+     */
+    private long[] windowMask(LocalTime fromTime, LocalTime toTime) {
+        int first = fromTime != null ? firstSlotAtOrAfter(fromTime) : 0;
+        int last = toTime != null ? firstSlotAtOrAfter(toTime) : slotsPerDay;
+        long[] mask = new long[wordsPerDay];
+        if (first <= last) {
+            setRange(mask, first, last);
+        } else {
+            // 자정을 넘는 범위: 하루의 끝 부분과 시작 부분
+            setRange(mask, first, slotsPerDay);
+            setRange(mask, 0, last);
+        }
+        return mask;
+    }
+
+    /**
+     * mask의 [first, last) 시간대 비트를 1로 (64비트 word 경계를 넘는 범위도 처리)
+     */
+    private void setRange(long[] mask, int first, int last) {
+        for (int word = 0; word < wordsPerDay; word++) {
+            int lo = Math.max(first - (word << 6), 0);
+            int hi = Math.min(last - (word << 6), 64);
+            if (lo < hi) {
+                long upper = hi == 64 ? -1L : (1L << hi) - 1;
+                long lower = (1L << lo) - 1;
+                mask[word] |= upper & ~lower;
+            }
+        }
+    }
+
+    private static boolean isEmpty(AtomicLongArray words) {
+        for (int i = 0; i < words.length(); i++) {
+            if (words.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
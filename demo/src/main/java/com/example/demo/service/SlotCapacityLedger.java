@@ -0,0 +1,246 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ReservationProperties;
+import com.example.demo.entity.ViewingReservation.ReservationStatus;
+import com.example.demo.exception.SlotFullException;
+import com.example.demo.repository.ViewingReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 시간대(slot)별 예매 정원 장부
+ * 시간대마다 AtomicInteger 하나를 두고 CAS로 증감하므로 DB 행 락 없이 마이크로초 단위로 수락/거절한다.
+ * DB는 정답 저장소이고 이 장부는 메모리 사본이므로, 시작 시 DB 집계로 다시 맞춘다.
+ * 복구가 끝나기 전(ApplicationReadyEvent 이전)에 들어온 자리 확보 요청은 복구가 끝날 때까지 기다린다.
+ *
+ * 오늘 이후의 시간대만 추적하며 지난 날짜의 시간대는 매일 정리한다.
+ */
+@Component
+public class SlotCapacityLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(SlotCapacityLedger.class);
+
+    // 시작 직후 복구 전에 들어온 요청이 기다리는 최대 시간
+    private static final Duration RECONCILE_WAIT = Duration.ofSeconds(10);
+
+    private final ViewingReservationRepository viewingReservationRepository;
+    private final SlotAvailabilityIndex availabilityIndex;
+    private final int capacity;
+    private final long slotMinutes;
+
+    // 복구 시 새로 만든 맵으로 통째로 교체한다 (clear 후 다시 채우는 사이의 증감이 사라지지 않도록)
+    private volatile Map<LocalDateTime, AtomicInteger> slots = new ConcurrentHashMap<>();
+    private final CountDownLatch reconciled = new CountDownLatch(1);
+
+    public SlotCapacityLedger(ViewingReservationRepository viewingReservationRepository,
+                              SlotAvailabilityIndex availabilityIndex,
+                              ReservationProperties properties) {
+        this.viewingReservationRepository = viewingReservationRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.capacity = properties.getSlotCapacity();
+        this.slotMinutes = properties.getSlotLength().toMinutes();
+    }
+
+    /**
+     * 예매일시가 속한 시간대의 시작 시각
+     */
+    public LocalDateTime slotOf(LocalDateTime reservationDate) {
+        long minuteOfDay = reservationDate.getHour() * 60L + reservationDate.getMinute();
+        return reservationDate.toLocalDate().atStartOfDay().plusMinutes(minuteOfDay - minuteOfDay % slotMinutes);
+    }
+
+    /**
+     * 시간대 자리 하나 확보 시도. 정원이 찼으면 false
+     */
+    public boolean tryAcquire(LocalDateTime reservationDate) {
+        awaitReconciled();
+        LocalDateTime slot = slotOf(reservationDate);
+        AtomicInteger counter = slots.computeIfAbsent(slot, s -> new AtomicInteger());
+        while (true) {
+            int current = counter.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                if (current + 1 == capacity) {
+                    syncAvailability(slot, counter);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 시간대 자리 하나 반납
+     * 복구 전의 반납은 복구 결과(DB 집계)로 덮어써지므로 따로 기다리지 않는다
+     */
+    public void release(LocalDateTime reservationDate) {
+        LocalDateTime slot = slotOf(reservationDate);
+        AtomicInteger counter = slots.get(slot);
+        if (counter == null) {
+            return;
+        }
+        while (true) {
+            int current = counter.get();
+            if (current <= 0) {
+                return;
+            }
+            if (counter.compareAndSet(current, current - 1)) {
+                if (current == capacity) {
+                    syncAvailability(slot, counter);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 정원 도달/해제 경계를 넘었을 때만 마감 비트맵 갱신
+     * 경계를 넘는 스레드끼리 순서가 뒤바뀌어도 마지막으로 들어온 스레드가 현재 값을 다시 읽어 기록하므로 결국 일치한다
+     */
+    private void syncAvailability(LocalDateTime slot, AtomicInteger counter) {
+        synchronized (counter) {
+            availabilityIndex.setFull(slot, counter.get() >= capacity);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 안에서 자리를 확보하고, 트랜잭션이 롤백되면 자동으로 반납
+     * 정원이 찼으면 SlotFullException
+     */
+    public void acquireInTransaction(LocalDateTime reservationDate) {
+        if (!tryAcquire(reservationDate)) {
+            throw new SlotFullException(slotOf(reservationDate));
+        }
+        afterCompletion(committed -> {
+            if (!committed) {
+                release(reservationDate);
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 자리를 반납 (롤백되면 그대로 둔다)
+     */
+    public void releaseAfterCommit(LocalDateTime reservationDate) {
+        releaseAllAfterCommit(List.of(reservationDate));
+    }
+
+    /**
+     * 여러 자리를 커밋 후 한꺼번에 반납 (일괄 처리용, 트랜잭션 동기화 하나)
+     */
+    public void releaseAllAfterCommit(List<LocalDateTime> reservationDates) {
+        if (reservationDates.isEmpty()) {
+            return;
+        }
+        afterCompletion(committed -> {
+            if (committed) {
+                reservationDates.forEach(this::release);
+            }
+        });
+    }
+
+    /**
+     * 만료 작업이 커밋한 청크의 자리를 한꺼번에 반납
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationsExpired(ReservationsExpiredEvent event) {
+        event.reservations().forEach(expired -> release(expired.reservationDate()));
+    }
+
+    public int occupancy(LocalDateTime reservationDate) {
+        AtomicInteger counter = slots.get(slotOf(reservationDate));
+        return counter != null ? counter.get() : 0;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 애플리케이션 시작 시 DB의 유효 예매(취소 제외) 수로 장부를 다시 만든다
+     *
+     * 복구가 끝날 때까지 tryAcquire가 막혀 있으므로 그 사이 새 예매는 저장되지 않는다.
+     * 집계 쿼리와 교체 사이에 끝난 반납(만료 등)은 버려지는데, 자리를 실제보다 많이 잡고 있는 쪽이라 초과 수락은 생기지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        LocalDateTime from = LocalDate.now().atStartOfDay();
+        List<Object[]> rows = viewingReservationRepository.countByReservationDateFrom(from, ReservationStatus.CANCELLED);
+
+        Map<LocalDateTime, Integer> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.merge(slotOf((LocalDateTime) row[0]), ((Number) row[1]).intValue(), Integer::sum);
+        }
+        Map<LocalDateTime, AtomicInteger> rebuilt = new ConcurrentHashMap<>();
+        counts.forEach((slot, count) -> rebuilt.put(slot, new AtomicInteger(count)));
+
+        availabilityIndex.clear();
+        slots = rebuilt;
+        counts.forEach((slot, count) -> {
+            if (count >= capacity) {
+                availabilityIndex.setFull(slot, true);
+            }
+        });
+        reconciled.countDown();
+        log.info("시간대 정원 장부 복구 완료: {}개 시간대", counts.size());
+    }
+
+    private void awaitReconciled() {
+        if (reconciled.getCount() == 0) {
+            return;
+        }
+        try {
+            if (!reconciled.await(RECONCILE_WAIT.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("예매 정원을 불러오는 중입니다. 잠시 후 다시 시도해주세요");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("예매 정원 확인이 중단되었습니다", e);
+        }
+    }
+
+    /**
+     * 지난 날짜의 시간대 정리 (매일 00:05)
+     */
+    @Scheduled(cron = "0 5 0 * * *")
+    public void evictPastSlots() {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        slots.keySet().removeIf(slot -> slot.isBefore(today));
+        availabilityIndex.evictBefore(today.toLocalDate());
+    }
+
+    private void afterCompletion(Consumer<Boolean> callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 트랜잭션 밖이면 바로 커밋된 것으로 본다
+            callback.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
@@ -3,7 +3,10 @@ package com.example.demo.service;
 import com.example.demo.dto.UserRequestDto;
 import com.example.demo.dto.UserResponseDto;
 import com.example.demo.entity.User;
+import com.example.demo.exception.DuplicateException;
+import com.example.demo.exception.NotFoundException;
 import com.example.demo.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,11 +15,13 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * 사용자 서비스 클래스
@@ -29,21 +34,37 @@ public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ResourceETagCache etagCache;
+    // 단건 조회 병합 (라이브 이벤트 중 같은 판매자/호스트 프로필 동시 조회를 DB 호출 1번으로)
+    private final TransactionTemplate readOnlyTransaction;
+    private final SingleFlight<Long, Optional<UserResponseDto>> byIdLookups;
+    private final SingleFlight<String, Optional<UserResponseDto>> byUsernameLookups;
 
     // 생성자 주입 (NestJS의 constructor injection과 같음)
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, ResourceETagCache etagCache,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.etagCache = etagCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.byIdLookups = new SingleFlight<>("user.lookup", "id", meterRegistry, etagCache::currentGeneration,
+                (id, since) -> etagCache.invalidatedSince(ResourceETagCache.userKey(id), since),
+                UserService::copyOf);
+        this.byUsernameLookups = new SingleFlight<>("user.lookup", "username", meterRegistry, etagCache::currentGeneration,
+                (username, since) -> etagCache.invalidatedSince(ResourceETagCache.usernameKey(username), since),
+                UserService::copyOf);
     }
 
     /**
      * Spring Security UserDetailsService 구현
      * NestJS의 Passport Strategy에서 validateUser와 비슷한 역할
+     * 인증마다 호출되므로 natural id 캐시를 거쳐 조회한다
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
+        return userRepository.findByNaturalUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
     }
 
@@ -55,10 +76,10 @@ public class UserService implements UserDetailsService {
     public UserResponseDto createUser(UserRequestDto userRequestDto) {
         // 중복 검사
         if (userRepository.existsByUsername(userRequestDto.getUsername())) {
-            throw new RuntimeException("이미 존재하는 사용자명입니다: " + userRequestDto.getUsername());
+            throw DuplicateException.username(userRequestDto.getUsername());
         }
         if (userRepository.existsByEmail(userRequestDto.getEmail())) {
-            throw new RuntimeException("이미 존재하는 이메일입니다: " + userRequestDto.getEmail());
+            throw DuplicateException.email(userRequestDto.getEmail());
         }
 
         // DTO를 Entity로 변환하고 비밀번호 암호화
@@ -75,10 +96,7 @@ public class UserService implements UserDetailsService {
      * NestJS의 findAll과 같음
      */
     public List<UserResponseDto> getAllUsers() {
-        return userRepository.findAll()
-                .stream()
-                .map(UserResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return userRepository.findAllResponses();
     }
 
     /**
@@ -86,26 +104,33 @@ public class UserService implements UserDetailsService {
      * NestJS의 find with pagination과 비슷
      */
     public Page<UserResponseDto> getUsersPaginated(Pageable pageable) {
-        return userRepository.findAll(pageable)
-                .map(UserResponseDto::fromEntity);
+        return userRepository.findAllResponses(pageable);
     }
 
     /**
      * ID로 사용자 조회
      * NestJS의 findOne과 같음
+     * 엔티티 대신 DTO 프로젝션으로 바로 조회 (비밀번호 컬럼 미조회)
+     *
+     * 같은 ID의 동시 조회는 SingleFlight로 합쳐 DB 조회 1번의 결과를 함께 받는다.
+     * 기다리는 요청이 커넥션을 잡고 있지 않도록 트랜잭션 없이 들어와(NOT_SUPPORTED)
+     * 실제로 조회하는 요청만 읽기 전용 트랜잭션(레플리카 라우팅 대상)을 연다.
+     * 사용자가 수정(커밋 후 ETag 무효화)된 뒤 도착한 요청은 그 전에 시작한 조회에 합류하지 않고, 합류한 요청은 DTO 복사본을 받는다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<UserResponseDto> getUserById(Long id) {
-        return userRepository.findById(id)
-                .map(UserResponseDto::fromEntity);
+        return byIdLookups.execute(id, () -> readOnlyTransaction.execute(status -> userRepository.findResponseById(id)));
     }
 
     /**
      * 사용자명으로 사용자 조회
      * NestJS의 findOne with conditions와 같음
+     * getUserById와 같이 동시 조회를 합친다
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<UserResponseDto> getUserByUsername(String username) {
-        return userRepository.findByUsername(username)
-                .map(UserResponseDto::fromEntity);
+        return byUsernameLookups.execute(username,
+                () -> readOnlyTransaction.execute(status -> userRepository.findResponseByUsername(username)));
     }
 
     /**
@@ -115,19 +140,20 @@ public class UserService implements UserDetailsService {
     @Transactional
     public UserResponseDto updateUser(Long id, UserRequestDto userRequestDto) {
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + id));
+                .orElseThrow(() -> NotFoundException.user(id));
 
         // 기존 사용자가 아닌 다른 사용자가 같은 사용자명이나 이메일을 사용하는지 확인
         if (!user.getUsername().equals(userRequestDto.getUsername()) && 
             userRepository.existsByUsername(userRequestDto.getUsername())) {
-            throw new RuntimeException("이미 존재하는 사용자명입니다: " + userRequestDto.getUsername());
+            throw DuplicateException.username(userRequestDto.getUsername());
         }
         if (!user.getEmail().equals(userRequestDto.getEmail()) && 
             userRepository.existsByEmail(userRequestDto.getEmail())) {
-            throw new RuntimeException("이미 존재하는 이메일입니다: " + userRequestDto.getEmail());
+            throw DuplicateException.email(userRequestDto.getEmail());
         }
 
         // 정보 업데이트
+        String previousUsername = user.getUsername();
         user.setUsername(userRequestDto.getUsername());
         user.setEmail(userRequestDto.getEmail());
         user.setRole(userRequestDto.getRole());
@@ -138,6 +164,7 @@ public class UserService implements UserDetailsService {
         }
 
         User updatedUser = userRepository.save(user);
+        etagCache.evictUserAfterCommit(id, previousUsername, updatedUser.getUsername());
         return UserResponseDto.fromEntity(updatedUser);
     }
 
@@ -148,9 +175,10 @@ public class UserService implements UserDetailsService {
     @Transactional
     public void deleteUser(Long id) {
         if (!userRepository.existsById(id)) {
-            throw new RuntimeException("사용자를 찾을 수 없습니다: " + id);
+            throw NotFoundException.user(id);
         }
         userRepository.deleteById(id);
+        etagCache.evictAllAfterCommit();
     }
 
     /**
@@ -158,10 +186,7 @@ public class UserService implements UserDetailsService {
      * NestJS의 search functionality와 비슷
      */
     public List<UserResponseDto> searchUsersByUsername(String username) {
-        return userRepository.findByUsernameContaining(username)
-                .stream()
-                .map(UserResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return userRepository.findResponsesByUsernameContaining(username);
     }
 
     /**
@@ -169,9 +194,10 @@ public class UserService implements UserDetailsService {
      * NestJS의 find with specific conditions와 같음
      */
     public List<UserResponseDto> getUsersByRole(User.Role role) {
-        return userRepository.findByRole(role)
-                .stream()
-                .map(UserResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return userRepository.findResponsesByRole(role);
     }
-} 
\ No newline at end of file
+
+    private static Optional<UserResponseDto> copyOf(Optional<UserResponseDto> user) {
+        return user.map(UserResponseDto::copy);
+    }
+}
@@ -2,63 +2,257 @@ package com.example.demo.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import com.example.demo.dto.ViewingReservationDto.CreateViewingReservationDto;
+import com.example.demo.dto.ViewingReservationDto.DayAvailabilityDto;
+import com.example.demo.dto.ViewingReservationDto.ReservationCursor;
+import com.example.demo.dto.ViewingReservationDto.UpdateViewingReservationDto;
+import com.example.demo.dto.ViewingReservationDto.ViewingReservationResponseDto;
+import com.example.demo.dto.ViewingReservationDto.ViewingReservationSliceDto;
 import com.example.demo.entity.ViewingReservation;
 import com.example.demo.entity.ViewingReservation.ReservationStatus;
+import com.example.demo.exception.NotFoundException;
+import com.example.demo.exception.SlotFullException;
 import com.example.demo.repository.ViewingReservationRepository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 @Transactional(readOnly = true)
 public class ViewingReservationService {
+    private static final int MAX_SLICE_SIZE = 100;
+    private static final int MAX_AVAILABILITY_DAYS = 31;
+
     private final ViewingReservationRepository viewingReservationRepository;
+    private final SlotCapacityLedger slotCapacityLedger;
+    private final ReservationWriteBehindQueue writeBehindQueue;
+    private final ReservationStatusOutbox reservationStatusOutbox;
+    private final ReservationIdempotencyStore idempotencyStore;
+    private final SlotAvailabilityIndex availabilityIndex;
+    private final ReservationStatistics reservationStatistics;
+    private final ResourceETagCache etagCache;
 
     @Autowired
-    public ViewingReservationService(ViewingReservationRepository viewingReservationRepository) {
+    public ViewingReservationService(ViewingReservationRepository viewingReservationRepository,
+                                     SlotCapacityLedger slotCapacityLedger,
+                                     ReservationWriteBehindQueue writeBehindQueue,
+                                     ReservationStatusOutbox reservationStatusOutbox,
+                                     ReservationIdempotencyStore idempotencyStore,
+                                     SlotAvailabilityIndex availabilityIndex,
+                                     ReservationStatistics reservationStatistics,
+                                     ResourceETagCache etagCache) {
         this.viewingReservationRepository = viewingReservationRepository;
+        this.slotCapacityLedger = slotCapacityLedger;
+        this.writeBehindQueue = writeBehindQueue;
+        this.reservationStatusOutbox = reservationStatusOutbox;
+        this.idempotencyStore = idempotencyStore;
+        this.availabilityIndex = availabilityIndex;
+        this.reservationStatistics = reservationStatistics;
+        this.etagCache = etagCache;
     }
 
-    public Page<ViewingReservation> findAll(Pageable pageable) {
-        return viewingReservationRepository.findAll(pageable);
+    public Page<ViewingReservationResponseDto> findAll(Pageable pageable) {
+        return viewingReservationRepository.findAllResponses(pageable);
     }
 
-    public ViewingReservation getViewingReservationById(String id) {
-        return viewingReservationRepository.findById(id).orElseThrow(() -> new RuntimeException("Viewing reservation not found"));
+    public ViewingReservation getViewingReservationById(UUID id) {
+        return viewingReservationRepository.findById(id).orElseThrow(() -> NotFoundException.viewingReservation(id));
     }
 
-    public List<ViewingReservation> getViewingReservationsByUserId(Long userId, ReservationStatus reservationStatus) {
-        return viewingReservationRepository.findByUserIdAndStatus(userId, reservationStatus);
+    public ViewingReservationResponseDto getViewingReservationResponseById(UUID id) {
+        return ViewingReservationResponseDto.fromEntity(getViewingReservationById(id));
     }
 
-    @Transactional
-    public ViewingReservation createViewingReservation(ViewingReservation viewingReservation) {
-        return viewingReservationRepository.save(viewingReservation);
+    /**
+     * 사용자별 예매 목록을 예매일시 순으로 키셋 페이지네이션
+     * cursor가 없으면 첫 페이지, 있으면 커서가 가리키는 행 다음부터 size개
+     */
+    public ViewingReservationSliceDto getViewingReservationsByUserId(Long userId, ReservationStatus reservationStatus, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_SLICE_SIZE));
+        Slice<ViewingReservationResponseDto> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = reservationStatus == null
+                ? viewingReservationRepository.findFirstSliceByUserId(userId, limit)
+                : viewingReservationRepository.findFirstSliceByUserIdAndStatus(userId, reservationStatus, limit);
+        } else {
+            ReservationCursor after = ReservationCursor.decode(cursor);
+            slice = reservationStatus == null
+                ? viewingReservationRepository.findSliceByUserIdAfter(userId, after.reservationDate(), after.id(), limit)
+                : viewingReservationRepository.findSliceByUserIdAndStatusAfter(userId, reservationStatus, after.reservationDate(), after.id(), limit);
+        }
+        return ViewingReservationSliceDto.of(slice);
+    }
+
+    /**
+     * 기간 내 날짜별 빈 시간대 조회
+     * DB를 집계하지 않고 메모리의 마감 비트맵만 읽으므로 트랜잭션(커넥션)이 필요 없다
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<DayAvailabilityDto> getAvailability(LocalDate from, LocalDate to, LocalTime fromTime, LocalTime toTime) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = from.isBefore(today) ? today : from;
+        if (to.isBefore(start)) {
+            return List.of();
+        }
+        if (ChronoUnit.DAYS.between(start, to) >= MAX_AVAILABILITY_DAYS) {
+            throw new IllegalArgumentException("Availability range must be at most " + MAX_AVAILABILITY_DAYS + " days");
+        }
+        return availabilityIndex.findFreeSlots(start, to, fromTime, toTime);
+    }
+
+    /**
+     * 예매 생성
+     * 시간대 정원 장부에서 CAS로 자리를 먼저 확보하고(락 없음), 저장은 쓰기 대기열이 배치로 처리한다.
+     * 대기열 저장을 기다리는 동안 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ViewingReservationResponseDto createViewingReservation(ViewingReservation viewingReservation) {
+        return awaitSaved(submitViewingReservation(viewingReservation));
+    }
+
+    /**
+     * 정원 장부에서 자리를 확보하고 저장 대기열에 넣는다. 저장 결과는 반환된 CompletableFuture로 받는다
+     */
+    private CompletableFuture<ViewingReservationResponseDto> submitViewingReservation(ViewingReservation viewingReservation) {
+        if (viewingReservation.getUser() == null || viewingReservation.getUser().getId() == null) {
+            throw new IllegalArgumentException("User ID is required");
+        }
+        if (viewingReservation.getReservationDate() == null) {
+            throw new IllegalArgumentException("Reservation date is required");
+        }
+        LocalDateTime reservationDate = viewingReservation.getReservationDate();
+        if (!slotCapacityLedger.tryAcquire(reservationDate)) {
+            throw new SlotFullException(slotCapacityLedger.slotOf(reservationDate));
+        }
+
+        try {
+            return writeBehindQueue.submit(viewingReservation);
+        } catch (RuntimeException e) {
+            slotCapacityLedger.release(reservationDate);
+            throw e;
+        }
     }
 
+    /**
+     * 멱등 예매 생성
+     * Idempotency-Key가 있으면 같은 사용자의 같은 키 재시도에 처음 응답을 그대로 돌려준다
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReservationIdempotencyStore.Result createViewingReservation(String scope, String idempotencyKey,
+                                                                       CreateViewingReservationDto request) {
+        if (idempotencyKey == null) {
+            return new ReservationIdempotencyStore.Result(createViewingReservation(request.toEntity()), false);
+        }
+        return idempotencyStore.execute(scope, idempotencyKey, request,
+                () -> submitViewingReservation(request.toEntity()), this::awaitSaved);
+    }
+
+    /**
+     * 예매 수정 (낙관적 락)
+     * 요청의 version이 현재 버전과 다르면, 또는 커밋 직전에 다른 트랜잭션이 먼저 수정했으면
+     * ObjectOptimisticLockingFailureException(409)으로 바로 실패한다
+     */
     @Transactional
-    public ViewingReservation updateViewingReservation(String id, ViewingReservation viewingReservation) {
-        return viewingReservationRepository.save(viewingReservation);
+    public ViewingReservationResponseDto updateViewingReservation(UUID id, UpdateViewingReservationDto request) {
+        if (request.getVersion() == null) {
+            throw new IllegalArgumentException("Version is required");
+        }
+        ViewingReservation existing = getViewingReservationById(id);
+        if (!request.getVersion().equals(existing.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(ViewingReservation.class, id);
+        }
+        LocalDateTime previousDate = existing.getReservationDate();
+        ReservationStatus previousStatus = existing.getStatus();
+
+        if (request.getReservationDate() != null) {
+            existing.setReservationDate(request.getReservationDate());
+        }
+        if (request.getStatus() != null) {
+            existing.setStatus(request.getStatus());
+        }
+        // 응답에 증가된 버전을 담기 위해 바로 flush (버전 검사도 이 시점에 일어난다)
+        ViewingReservation saved = viewingReservationRepository.saveAndFlush(existing);
+        applyCapacityChange(previousDate, previousStatus, saved.getReservationDate(), saved.getStatus());
+        reservationStatusOutbox.append(saved, previousStatus);
+        reservationStatistics.recordChange(saved.getUser().getId(), previousDate, previousStatus, saved.getReservationDate(), saved.getStatus());
+        etagCache.evictReservationsAfterCommit(List.of(id));
+        return ViewingReservationResponseDto.fromEntity(saved);
     }
 
     @Transactional
-    public ViewingReservation updateViewingReservationStatus(String id, ViewingReservation.ReservationStatus status) {
+    public ViewingReservationResponseDto updateViewingReservationStatus(UUID id, ViewingReservation.ReservationStatus status) {
         ViewingReservation viewingReservation = getViewingReservationById(id);
+        ReservationStatus previousStatus = viewingReservation.getStatus();
         viewingReservation.setStatus(status);
-        return viewingReservationRepository.save(viewingReservation);
+        applyCapacityChange(viewingReservation.getReservationDate(), previousStatus, viewingReservation.getReservationDate(), status);
+        ViewingReservation saved = viewingReservationRepository.saveAndFlush(viewingReservation);
+        // 소유자에게 커밋 후 WebSocket으로 상태 변경을 알린다 (클라이언트 폴링 대체)
+        reservationStatusOutbox.append(saved, previousStatus);
+        reservationStatistics.recordChange(saved.getUser().getId(), saved.getReservationDate(), previousStatus, saved.getReservationDate(), status);
+        etagCache.evictReservationsAfterCommit(List.of(saved.getId()));
+        return ViewingReservationResponseDto.fromEntity(saved);
     }
 
     @Transactional
-    public void deleteViewingReservation(String id) {
+    public void deleteViewingReservation(UUID id) {
         ViewingReservation viewingReservation = getViewingReservationById(id);
 
-        if (viewingReservation == null) {
-            throw new RuntimeException("Viewing reservation not found");
+        viewingReservationRepository.delete(viewingReservation);
+        applyCapacityChange(viewingReservation.getReservationDate(), viewingReservation.getStatus(), null, null);
+        reservationStatistics.recordChange(viewingReservation.getUser().getId(),
+                viewingReservation.getReservationDate(), viewingReservation.getStatus(), null, null);
+        etagCache.evictReservationsAfterCommit(List.of(id));
+    }
+
+    /**
+     * 예매의 시간대/상태 변경을 정원 장부에 반영
+     * 새로 차지하는 자리는 지금 확보하고(롤백 시 반납), 비우는 자리는 커밋 후 반납한다
+     */
+    private void applyCapacityChange(LocalDateTime previousDate, ReservationStatus previousStatus,
+                                     LocalDateTime newDate, ReservationStatus newStatus) {
+        boolean wasActive = previousDate != null && previousStatus != ReservationStatus.CANCELLED;
+        boolean isActive = newDate != null && newStatus != null && newStatus != ReservationStatus.CANCELLED;
+        if (wasActive && isActive && slotCapacityLedger.slotOf(previousDate).equals(slotCapacityLedger.slotOf(newDate))) {
+            return;
+        }
+        if (isActive) {
+            slotCapacityLedger.acquireInTransaction(newDate);
         }
+        if (wasActive) {
+            slotCapacityLedger.releaseAfterCommit(previousDate);
+        }
+    }
 
-        viewingReservationRepository.delete(viewingReservation);
+    private ViewingReservationResponseDto awaitSaved(CompletableFuture<ViewingReservationResponseDto> saved) {
+        try {
+            return saved.get(writeBehindQueue.getAckTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("예매 저장 실패", e.getCause());
+        } catch (TimeoutException e) {
+            // 대기열에서는 계속 처리되므로 자리는 반납하지 않는다
+            throw new IllegalStateException("예매 저장이 지연되고 있습니다. 예매 목록에서 결과를 확인해주세요");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("예매 저장 대기 중 중단되었습니다");
+        }
     }
 }
@@ -0,0 +1,22 @@
+-- viewing_reservations.id: VARCHAR(255) 문자열 UUID -> BINARY(16)
+-- (MySQL 8.0+, 새 버전 배포 전에 한 번 실행)
+--
+-- 기존 행의 ID 값은 그대로 유지되므로 이미 발급된 예매 ID로도 계속 조회할 수 있다.
+-- 기존 ID는 랜덤(v4)이라 정렬 이점이 없지만, 새로 생성되는 ID는 시간순(v7)으로 인덱스 끝에 추가된다.
+-- UUID_TO_BIN의 swap_flag(두 번째 인자)는 v1 UUID용이므로 사용하지 않는다.
+
+ALTER TABLE viewing_reservations ADD COLUMN id_bin BINARY(16) NULL;
+
+UPDATE viewing_reservations SET id_bin = UUID_TO_BIN(id);
+
+ALTER TABLE viewing_reservations
+    DROP PRIMARY KEY,
+    DROP COLUMN id;
+
+ALTER TABLE viewing_reservations
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id);
+
+-- PK를 다시 만드는 동안 테이블이 재구성되며, PK를 포함하는 보조 인덱스도 16바이트 키로 줄어든다
+
+-- 조회 예: SELECT BIN_TO_UUID(id) AS id, user_id, status FROM viewing_reservations ORDER BY id DESC LIMIT 10;
@@ -0,0 +1,82 @@
+package com.example.demo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.demo.dto.UserResponseDto;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+
+class FastLocalDateTimeSerializerTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        // JacksonConfig와 같은 등록 경로 (Spring Boot 기본값처럼 타임스탬프 출력은 끈다)
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        new JacksonConfig().fastLocalDateTimeCustomizer().customize(builder);
+        objectMapper = builder.build();
+    }
+
+    @Test
+    void dtoPropertiesUseTheFastSerializer() throws Exception {
+        assertThat(propertySerializers(UserResponseDto.class))
+                .containsEntry("createdAt", FastLocalDateTimeSerializer.class)
+                .containsEntry("updatedAt", FastLocalDateTimeSerializer.class);
+    }
+
+    @Test
+    void jsonFormatPatternFallsBackToDefaultSerializer() throws Exception {
+        assertThat(propertySerializers(Patterned.class).get("at")).isNotEqualTo(FastLocalDateTimeSerializer.class);
+        assertThat(objectMapper.writeValueAsString(new Patterned(LocalDateTime.of(2030, 1, 2, 3, 4))))
+                .isEqualTo("{\"at\":\"2030/01/02\"}");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 100_000_000, 123_000_000, 123_456_000, 123_456_789, 1})
+    void propertyOutputMatchesIsoLocalDateTime(int nano) throws Exception {
+        for (LocalDateTime value : List.of(
+                LocalDateTime.of(2030, 1, 2, 3, 4, 5, nano),
+                LocalDateTime.of(999, 12, 31, 23, 59, 0, nano),
+                LocalDateTime.of(2030, 10, 20, 0, 0, 0, nano))) {
+            String expected = "{\"at\":\"" + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value) + "\"}";
+            assertThat(objectMapper.writeValueAsBytes(new Stamp(value))).isEqualTo(expected.getBytes());
+        }
+    }
+
+    private Map<String, Class<?>> propertySerializers(Class<?> type) throws Exception {
+        DefaultSerializerProvider provider = ((DefaultSerializerProvider) objectMapper.getSerializerProvider())
+                .createInstance(objectMapper.getSerializationConfig(), objectMapper.getSerializerFactory());
+        BeanSerializerBase serializer = (BeanSerializerBase) provider.findValueSerializer(type);
+        Map<String, Class<?>> serializers = new HashMap<>();
+        serializer.properties().forEachRemaining(property -> {
+            JsonSerializer<Object> propertySerializer = ((BeanPropertyWriter) property).getSerializer();
+            serializers.put(property.getName(), propertySerializer != null ? propertySerializer.getClass() : null);
+        });
+        return serializers;
+    }
+
+    public record Stamp(LocalDateTime at) {
+    }
+
+    public record Patterned(@JsonFormat(pattern = "yyyy/MM/dd") LocalDateTime at) {
+    }
+}
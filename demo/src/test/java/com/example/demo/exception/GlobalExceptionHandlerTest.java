@@ -0,0 +1,108 @@
+package com.example.demo.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.exception.GlobalExceptionHandler.ErrorResponse;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @ParameterizedTest
+    @EnumSource(ErrorCode.class)
+    void domainExceptionMapsToItsErrorCode(ErrorCode errorCode) {
+        ResponseEntity<ErrorResponse> response = handler.handleDomainException(new DomainException(errorCode, "subject"));
+
+        assertThat(response.getStatusCode()).isEqualTo(errorCode.getStatus());
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getCode()).isEqualTo(errorCode.name());
+        assertThat(response.getBody().getMessage()).isEqualTo(errorCode.getMessage());
+        assertThat(response.getBody().getDetails()).isNull();
+        assertThat(response.getBody().getTimestamp().getNano()).isZero();
+    }
+
+    @Test
+    void prebuiltBodyIsReusedWithinTheSameSecond() {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            long second = System.currentTimeMillis() / 1000;
+            ErrorResponse first = handler.handleDomainException(NotFoundException.user(1L)).getBody();
+            ErrorResponse again = handler.handleDomainException(NotFoundException.user(2L)).getBody();
+            if (System.currentTimeMillis() / 1000 == second) {
+                assertThat(again).isSameAs(first);
+                return;
+            }
+        }
+        throw new AssertionError("같은 초 안에 두 번 호출하지 못했습니다");
+    }
+
+    @Test
+    void prebuiltBodyTimestampMovesToTheNextSecond() throws InterruptedException {
+        ErrorResponse first = handler.handleDomainException(NotFoundException.user(1L)).getBody();
+        Thread.sleep(1_100);
+        ErrorResponse later = handler.handleDomainException(NotFoundException.user(1L)).getBody();
+
+        assertThat(later).isNotSameAs(first);
+        assertThat(later.getTimestamp()).isAfter(first.getTimestamp());
+    }
+
+    @Test
+    void errorCodesDoNotShareBodies() {
+        ErrorResponse notFound = handler.handleDomainException(NotFoundException.user(1L)).getBody();
+        ErrorResponse duplicate = handler.handleDomainException(DuplicateException.username("alice")).getBody();
+
+        assertThat(notFound.getCode()).isEqualTo("USER_NOT_FOUND");
+        assertThat(duplicate.getCode()).isEqualTo("DUPLICATE_USERNAME");
+    }
+
+    @Test
+    void errorResponseIsImmutable() {
+        assertThat(Arrays.stream(ErrorResponse.class.getMethods()).map(Method::getName))
+                .noneMatch(name -> name.startsWith("set"));
+
+        Map<String, String> details = new HashMap<>();
+        details.put("username", "필수 항목입니다");
+        ErrorResponse response = new ErrorResponse("VALIDATION_FAILED", "검증 실패", details, null);
+        assertThatThrownBy(() -> response.getDetails().put("email", "x"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void notFoundIsRenderedAs404Body() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ThrowingController())
+                .setControllerAdvice(handler)
+                .build();
+
+        mockMvc.perform(get("/users/7"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("USER_NOT_FOUND"))
+                .andExpect(jsonPath("$.message").value(ErrorCode.USER_NOT_FOUND.getMessage()))
+                .andExpect(jsonPath("$.timestamp").exists());
+    }
+
+    @RestController
+    static class ThrowingController {
+        @GetMapping("/users/{id}")
+        String user(@PathVariable("id") Long id) {
+            throw NotFoundException.user(id);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class BrokerFanOutMetricsInterceptorTest {
+
+    private static final String USER_PREFIX = "/user/";
+
+    @Test
+    void topicDestinationsAreKeptAsIs() {
+        assertThat(BrokerFanOutMetricsInterceptor.normalize("/topic/public", null, USER_PREFIX)).isEqualTo("/topic/public");
+        // "-user"가 들어간 일반 목적지를 자르지 않는다
+        assertThat(BrokerFanOutMetricsInterceptor.normalize("/topic/auction-users", null, USER_PREFIX))
+                .isEqualTo("/topic/auction-users");
+    }
+
+    @Test
+    void unresolvedUserDestinationIsNotRecorded() {
+        assertThat(BrokerFanOutMetricsInterceptor.normalize("/user/alice/queue/private", null, USER_PREFIX)).isNull();
+        assertThat(BrokerFanOutMetricsInterceptor.normalize("/user/queue/reservations", null, USER_PREFIX)).isNull();
+    }
+
+    @Test
+    void resolvedUserDestinationUsesSubscriptionTemplate() {
+        assertThat(BrokerFanOutMetricsInterceptor.normalize("/queue/private-user3f1c9a2e", "/user/queue/private", USER_PREFIX))
+                .isEqualTo("/user/queue/private");
+        assertThat(BrokerFanOutMetricsInterceptor.normalize(
+                "/queue/reservations-user1b2c3d4e-5f60-7182-93a4-b5c6d7e8f901", "/user/queue/reservations", USER_PREFIX))
+                .isEqualTo("/user/queue/reservations");
+    }
+
+    @Test
+    void missingDestinationIsNotRecorded() {
+        assertThat(BrokerFanOutMetricsInterceptor.normalize(null, null, USER_PREFIX)).isNull();
+    }
+}
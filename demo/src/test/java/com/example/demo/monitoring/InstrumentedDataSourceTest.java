@@ -0,0 +1,72 @@
+package com.example.demo.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InstrumentedDataSourceTest {
+
+    private static final String SELECT = "SELECT id, name FROM item WHERE id > ?";
+
+    private SqlStatementRecorder recorder;
+    private InstrumentedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:instrumented-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        recorder = new SqlStatementRecorder(new SimpleMeterRegistry(), new SqlMonitoringProperties());
+        dataSource = new InstrumentedDataSource(h2, recorder);
+
+        try (Connection connection = dataSource.getConnection(); Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE TABLE item (id BIGINT PRIMARY KEY, name VARCHAR(16))");
+            ddl.executeUpdate("INSERT INTO item VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+        }
+    }
+
+    @Test
+    void selectedRowsAreRecordedWhenResultSetCloses() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement select = connection.prepareStatement(SELECT)) {
+            select.setLong(1, 1);
+            try (ResultSet resultSet = select.executeQuery()) {
+                assertThat(resultSet).isInstanceOf(CountingResultSet.class);
+                while (resultSet.next()) {
+                    assertThat(resultSet.getString("name")).isNotNull();
+                }
+            }
+        }
+
+        SqlStatementShape shape = shapeOf(SELECT);
+        assertThat(shape.getRows().count()).isEqualTo(1);
+        assertThat(shape.getRows().totalAmount()).isEqualTo(2);
+        assertThat(shape.getTimer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shapeTimersHaveNoHistogramBucketsByDefault() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement select = connection.prepareStatement(SELECT)) {
+            select.setLong(1, 0);
+            select.executeQuery().close();
+        }
+
+        assertThat(shapeOf(SELECT).getTimer().takeSnapshot().histogramCounts()).isEmpty();
+    }
+
+    private SqlStatementShape shapeOf(String sql) {
+        return recorder.getShapes().stream()
+                .filter(shape -> shape.getSql().equals(SqlStatementShape.normalize(sql)))
+                .findFirst()
+                .orElseThrow();
+    }
+}
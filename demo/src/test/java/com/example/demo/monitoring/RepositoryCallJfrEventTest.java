@@ -0,0 +1,73 @@
+package com.example.demo.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.example.demo.entity.User;
+import com.example.demo.repository.UserRepository;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * 리포지토리 프록시에 붙인 RepositoryCallJfrInterceptor가 실제로 호출되어 JFR 이벤트가 기록되는지 확인
+ * (어드바이스가 Spring Data 쿼리 실행 인터셉터 뒤에 붙으면 이벤트가 하나도 남지 않는다)
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+    "spring.jpa.properties.jakarta.persistence.sharedCache.mode=NONE"
+})
+class RepositoryCallJfrEventTest {
+
+    @Configuration
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    @Import(JfrConfig.class)
+    static class JpaWithJfr {
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void repositoryCallsAreRecorded() throws Exception {
+        Path file = Files.createTempFile("repository-call", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RepositoryCallJfrEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            userRepository.findAll();            // 기본 구현(SimpleJpaRepository)
+            userRepository.existsByUsername("x"); // 파생 쿼리(QueryExecutorMethodInterceptor)
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.demo.RepositoryCall"))
+                .toList();
+        Files.deleteIfExists(file);
+
+        assertThat(events)
+                .extracting(event -> event.getString("method"))
+                .contains("findAll", "existsByUsername");
+        assertThat(events)
+                .extracting(event -> event.getString("repository"))
+                .contains("userRepository");
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+class StompTraceRecorderTest {
+
+    private StompTraceRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        StompTraceProperties properties = new StompTraceProperties();
+        properties.setSampleRate(0.0);
+        recorder = new StompTraceRecorder(properties);
+    }
+
+    @Test
+    void adminTraceIdBypassesSampling() {
+        StompTrace trace = recorder.startIfSampled("slow-msg-1", "/app/chat.sendMessage", principal("admin", "ROLE_ADMIN"), "s1");
+
+        assertThat(trace).isNotNull();
+        assertThat(trace.getTraceId()).isEqualTo("slow-msg-1");
+    }
+
+    @Test
+    void userTraceIdDoesNotForceTracing() {
+        StompTrace trace = recorder.startIfSampled("flood-1", "/app/chat.sendMessage", principal("alice", "ROLE_USER"), "s1");
+
+        assertThat(trace).isNull();
+        assertThat(recorder.recent(10)).isEmpty();
+    }
+
+    @Test
+    void sampledUserMessageGetsServerGeneratedId() {
+        StompTraceProperties properties = new StompTraceProperties();
+        properties.setSampleRate(1.0);
+        StompTraceRecorder alwaysSampling = new StompTraceRecorder(properties);
+
+        StompTrace trace = alwaysSampling.startIfSampled("chosen-id", "/app/chat.sendMessage", principal("alice", "ROLE_USER"), "s1");
+
+        assertThat(trace).isNotNull();
+        assertThat(trace.getTraceId()).isNotEqualTo("chosen-id");
+    }
+
+    private static UsernamePasswordAuthenticationToken principal(String name, String role) {
+        return new UsernamePasswordAuthenticationToken(name, null, List.of(new SimpleGrantedAuthority(role)));
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.demo.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.example.demo.dto.ViewingReservationDto.ViewingReservationResponseDto;
+import com.example.demo.entity.User;
+import com.example.demo.entity.ViewingReservation;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 예매 목록 조회가 페이지 크기와 무관하게 같은 수의 SQL만 실행하는지 검증 (N+1 회귀 방지)
+ * Hibernate Statistics의 prepared statement 수를 페이지 크기 5 / 20 / 50에서 비교한다
+ *
+ * 운영 설정(MySQL 방언, 2차 캐시)은 끄고 내장 H2로 JPA 계층만 띄운다.
+ * 캐시가 켜져 있으면 사용자 조회가 캐시에서 끝나 N+1이 가려질 수 있다.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+    "spring.jpa.properties.jakarta.persistence.sharedCache.mode=NONE",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ViewingReservationRepositoryStatementCountTest {
+
+    private static final int[] PAGE_SIZES = {5, 20, 50};
+    private static final int RESERVATIONS_PER_USER = 60;
+    private static final int USERS = 3;
+
+    // 메인 애플리케이션 클래스(WebSocket/스케줄링 설정 포함) 대신 JPA 저장소만 구성
+    @Configuration
+    @EntityScan(basePackageClasses = ViewingReservation.class)
+    @EnableJpaRepositories(basePackageClasses = ViewingReservationRepository.class)
+    static class JpaOnly {
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ViewingReservationRepository viewingReservationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long firstUserId;
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 10, 0);
+        for (int u = 0; u < USERS; u++) {
+            User user = entityManager.persist(User.builder()
+                    .username("reader_" + u)
+                    .email("reader_" + u + "@example.com")
+                    .password("password123")
+                    .build());
+            if (firstUserId == null) {
+                firstUserId = user.getId();
+            }
+            for (int i = 0; i < RESERVATIONS_PER_USER; i++) {
+                entityManager.persist(ViewingReservation.builder()
+                        .user(user)
+                        .reservationDate(base.plusHours(i))
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear(); // 영속성 컨텍스트에 남은 사용자로 조인 누락이 가려지지 않도록 비운다
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void findAllResponsesUsesSameStatementCountForEveryPageSize() {
+        List<Long> counts = countPerPageSize(size -> () -> {
+            var page = viewingReservationRepository.findAllResponses(PageRequest.of(0, size));
+            assertThat(page.getContent()).hasSize(size);
+            page.getContent().forEach(r -> assertThat(r.getUsername()).startsWith("reader_"));
+            return page;
+        });
+
+        // 페이지 SELECT 1회 + COUNT 1회
+        assertThat(counts).containsOnly(2L);
+    }
+
+    @Test
+    void userSlicesUseSameStatementCountForEveryPageSize() {
+        List<Long> first = countPerPageSize(size -> () -> {
+            Slice<ViewingReservationResponseDto> slice =
+                    viewingReservationRepository.findFirstSliceByUserId(firstUserId, PageRequest.ofSize(size));
+            assertThat(slice.getContent()).hasSize(size);
+            return slice;
+        });
+        List<Long> next = countPerPageSize(size -> () -> {
+            Slice<ViewingReservationResponseDto> slice = viewingReservationRepository.findSliceByUserIdAfter(
+                    firstUserId, LocalDateTime.of(2029, 12, 31, 0, 0), new UUID(0, 0), PageRequest.ofSize(size));
+            assertThat(slice.getContent()).hasSize(size);
+            return slice;
+        });
+        List<Long> byStatus = countPerPageSize(size -> () -> {
+            Slice<ViewingReservationResponseDto> slice = viewingReservationRepository.findFirstSliceByUserIdAndStatus(
+                    firstUserId, ViewingReservation.ReservationStatus.PENDING, PageRequest.ofSize(size));
+            assertThat(slice.getContent()).hasSize(size);
+            return slice;
+        });
+
+        // 키셋 페이지는 COUNT 없이 SELECT 1회
+        assertThat(first).containsOnly(1L);
+        assertThat(next).containsOnly(1L);
+        assertThat(byStatus).containsOnly(1L);
+    }
+
+    private List<Long> countPerPageSize(IntFunction<Supplier<?>> queryForSize) {
+        return Arrays.stream(PAGE_SIZES)
+                .mapToObj(size -> {
+                    entityManager.clear();
+                    statistics.clear();
+                    queryForSize.apply(size).get();
+                    return statistics.getPrepareStatementCount();
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.config.ReservationProperties;
+import com.example.demo.dto.ViewingReservationDto.ViewingReservationResponseDto;
+import com.example.demo.entity.ViewingReservation.ReservationStatus;
+import com.example.demo.exception.IdempotencyKeyReusedException;
+import com.example.demo.exception.SlotFullException;
+
+class ReservationIdempotencyStoreTest {
+
+    private static final String SCOPE = "user-1";
+    private static final String REQUEST = "2030-01-01T10:00";
+
+    private ReservationIdempotencyStore store;
+    private AtomicInteger submissions;
+
+    @BeforeEach
+    void setUp() {
+        store = new ReservationIdempotencyStore(new ReservationProperties());
+        submissions = new AtomicInteger();
+    }
+
+    @Test
+    void ackTimeoutKeepsKeyBoundToQueuedWrite() throws Exception {
+        CompletableFuture<ViewingReservationResponseDto> write = new CompletableFuture<>();
+
+        assertThatThrownBy(() -> store.execute(SCOPE, "key", REQUEST, submit(write), ReservationIdempotencyStoreTest::awaitBriefly))
+                .isInstanceOf(IllegalStateException.class);
+
+        ViewingReservationResponseDto saved = response();
+        write.complete(saved);
+        ReservationIdempotencyStore.Result retry =
+                store.execute(SCOPE, "key", REQUEST, submit(new CompletableFuture<>()), ReservationIdempotencyStoreTest::awaitBriefly);
+
+        assertThat(submissions).hasValue(1);
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.response()).isSameAs(saved);
+    }
+
+    @Test
+    void retryDuringPendingWriteDoesNotSubmitAgain() {
+        CompletableFuture<ViewingReservationResponseDto> write = new CompletableFuture<>();
+        CompletableFuture<ReservationIdempotencyStore.Result> first = CompletableFuture.supplyAsync(() ->
+                store.execute(SCOPE, "key", REQUEST, submit(write), ReservationIdempotencyStoreTest::awaitLong));
+        CompletableFuture<ReservationIdempotencyStore.Result> second = CompletableFuture.supplyAsync(() ->
+                store.execute(SCOPE, "key", REQUEST, submit(write), ReservationIdempotencyStoreTest::awaitLong));
+
+        ViewingReservationResponseDto saved = response();
+        write.complete(saved);
+
+        assertThat(first.join().response()).isSameAs(saved);
+        assertThat(second.join().response()).isSameAs(saved);
+        assertThat(submissions).hasValue(1);
+    }
+
+    @Test
+    void failedWriteReleasesKey() {
+        CompletableFuture<ViewingReservationResponseDto> write = CompletableFuture.failedFuture(new IllegalArgumentException("사용자 없음"));
+
+        assertThatThrownBy(() -> store.execute(SCOPE, "key", REQUEST, submit(write), ReservationIdempotencyStoreTest::awaitBriefly))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        ViewingReservationResponseDto saved = response();
+        ReservationIdempotencyStore.Result retry = store.execute(SCOPE, "key", REQUEST,
+                submit(CompletableFuture.completedFuture(saved)), ReservationIdempotencyStoreTest::awaitBriefly);
+
+        assertThat(submissions).hasValue(2);
+        assertThat(retry.replayed()).isFalse();
+        assertThat(retry.response()).isSameAs(saved);
+    }
+
+    @Test
+    void rejectedSubmitReleasesKey() {
+        Supplier<CompletableFuture<ViewingReservationResponseDto>> full = () -> {
+            submissions.incrementAndGet();
+            throw new SlotFullException(LocalDateTime.of(2030, 1, 1, 10, 0));
+        };
+        assertThatThrownBy(() -> store.execute(SCOPE, "key", REQUEST, full, ReservationIdempotencyStoreTest::awaitBriefly))
+                .isInstanceOf(SlotFullException.class);
+
+        store.execute(SCOPE, "key", REQUEST, submit(CompletableFuture.completedFuture(response())),
+                ReservationIdempotencyStoreTest::awaitBriefly);
+
+        assertThat(submissions).hasValue(2);
+    }
+
+    @Test
+    void sameKeyWithDifferentRequestIsRejected() {
+        store.execute(SCOPE, "key", REQUEST, submit(CompletableFuture.completedFuture(response())),
+                ReservationIdempotencyStoreTest::awaitBriefly);
+
+        assertThatThrownBy(() -> store.execute(SCOPE, "key", "2030-01-02T10:00",
+                submit(new CompletableFuture<>()), ReservationIdempotencyStoreTest::awaitBriefly))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    private Supplier<CompletableFuture<ViewingReservationResponseDto>> submit(CompletableFuture<ViewingReservationResponseDto> write) {
+        return () -> {
+            submissions.incrementAndGet();
+            return write;
+        };
+    }
+
+    private static ViewingReservationResponseDto awaitBriefly(CompletableFuture<ViewingReservationResponseDto> future) {
+        return await(future, 100);
+    }
+
+    private static ViewingReservationResponseDto awaitLong(CompletableFuture<ViewingReservationResponseDto> future) {
+        return await(future, 5_000);
+    }
+
+    // ViewingReservationService.awaitSaved와 같은 규칙: 시간 초과는 IllegalStateException, 실패는 원인 예외
+    private static ViewingReservationResponseDto await(CompletableFuture<ViewingReservationResponseDto> future, long millis) {
+        try {
+            return future.get(millis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ViewingReservationResponseDto response() {
+        return new ViewingReservationResponseDto(UUID.randomUUID(), 1L, "alice", ReservationStatus.PENDING,
+                LocalDateTime.of(2030, 1, 1, 10, 0), LocalDateTime.now(), 0L);
+    }
+}
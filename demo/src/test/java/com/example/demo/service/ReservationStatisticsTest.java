@@ -0,0 +1,162 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.entity.ViewingReservation.ReservationStatus;
+import com.example.demo.repository.ViewingReservationRepository;
+
+/**
+ * 쓰기 경로의 증분 반영 결과가 기본 테이블 재구성(rebuild) 결과와 같은지 확인
+ * 테이블은 메모리 Map으로 흉내 내고, 재구성 쿼리(GROUP BY)는 그 Map을 집계해 돌려준다
+ */
+class ReservationStatisticsTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    private final Map<UUID, Row> table = new LinkedHashMap<>();
+    private ViewingReservationRepository repository;
+    private ReservationStatistics incremental;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ViewingReservationRepository.class);
+        when(repository.countGroupByUserDayAndStatus()).thenAnswer(invocation -> groupByUserDayAndStatus());
+        incremental = new ReservationStatistics(repository);
+    }
+
+    @Test
+    void createCancelAndStatusChangesMatchRebuild() {
+        UUID first = create(1L, BASE, ReservationStatus.PENDING);
+        UUID second = create(1L, BASE.plusDays(1), ReservationStatus.PENDING);
+        UUID third = create(2L, BASE, ReservationStatus.PENDING);
+
+        update(first, BASE, ReservationStatus.CONFIRMED);
+        update(second, BASE.plusDays(1), ReservationStatus.CANCELLED);
+        update(third, BASE.plusDays(2), ReservationStatus.PENDING);   // 다른 날로 변경
+        update(third, BASE.plusDays(2).plusHours(3), ReservationStatus.PENDING); // 같은 날 안에서 변경 (카운터 변화 없음)
+        update(first, BASE, ReservationStatus.CONFIRMED);               // 변화 없는 갱신
+        delete(second);
+
+        assertMatchesRebuild();
+        assertThat(incremental.countByStatus())
+                .containsEntry(ReservationStatus.PENDING, 1L)
+                .containsEntry(ReservationStatus.CONFIRMED, 1L)
+                .containsEntry(ReservationStatus.CANCELLED, 0L);
+    }
+
+    @Test
+    void bulkChangesAndExpiryMatchRebuild() {
+        List<UUID> pending = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            pending.add(create(3L, BASE.plusHours(i), ReservationStatus.PENDING));
+        }
+
+        // 일괄 상태 변경 (ReservationBulkStatusService)
+        List<ReservationStatistics.Change> changes = new ArrayList<>();
+        for (UUID id : pending.subList(0, 2)) {
+            Row row = table.get(id);
+            changes.add(new ReservationStatistics.Change(row.userId(), row.date(), row.status(), row.date(), ReservationStatus.CONFIRMED));
+            table.put(id, new Row(row.userId(), row.date(), ReservationStatus.CONFIRMED));
+        }
+        incremental.recordChanges(changes);
+
+        // 만료 작업 (PENDING -> CANCELLED)
+        List<ReservationsExpiredEvent.ExpiredReservation> expired = new ArrayList<>();
+        for (UUID id : pending.subList(2, 5)) {
+            Row row = table.get(id);
+            expired.add(new ReservationsExpiredEvent.ExpiredReservation(id, row.userId(), row.date()));
+            table.put(id, new Row(row.userId(), row.date(), ReservationStatus.CANCELLED));
+        }
+        incremental.onReservationsExpired(new ReservationsExpiredEvent(expired, BASE));
+
+        assertMatchesRebuild();
+    }
+
+    @Test
+    void randomSequenceMatchesRebuild() {
+        Random random = new Random(42);
+        ReservationStatus[] statuses = ReservationStatus.values();
+        List<UUID> ids = new ArrayList<>();
+        for (int step = 0; step < 2_000; step++) {
+            int action = ids.isEmpty() ? 0 : random.nextInt(4);
+            LocalDateTime date = BASE.plusDays(random.nextInt(7)).plusHours(random.nextInt(12));
+            ReservationStatus status = statuses[random.nextInt(statuses.length)];
+            switch (action) {
+                case 0 -> ids.add(create((long) random.nextInt(10), date, ReservationStatus.PENDING));
+                case 1, 2 -> update(ids.get(random.nextInt(ids.size())), date, status);
+                default -> delete(ids.remove(random.nextInt(ids.size())));
+            }
+        }
+
+        assertMatchesRebuild();
+    }
+
+    private UUID create(Long userId, LocalDateTime date, ReservationStatus status) {
+        UUID id = UUID.randomUUID();
+        table.put(id, new Row(userId, date, status));
+        incremental.recordChange(userId, null, null, date, status);
+        return id;
+    }
+
+    private void update(UUID id, LocalDateTime date, ReservationStatus status) {
+        Row previous = table.put(id, new Row(table.get(id).userId(), date, status));
+        incremental.recordChange(previous.userId(), previous.date(), previous.status(), date, status);
+    }
+
+    private void delete(UUID id) {
+        Row previous = table.remove(id);
+        incremental.recordChange(previous.userId(), previous.date(), previous.status(), null, null);
+    }
+
+    private void assertMatchesRebuild() {
+        ReservationStatistics rebuilt = new ReservationStatistics(repository);
+        rebuilt.rebuild();
+
+        assertThat(incremental.countByStatus()).isEqualTo(rebuilt.countByStatus());
+        for (Row row : allKeys()) {
+            assertThat(incremental.countByDay(row.date().toLocalDate()))
+                    .as("day %s", row.date().toLocalDate())
+                    .isEqualTo(rebuilt.countByDay(row.date().toLocalDate()));
+            assertThat(incremental.countByUser(row.userId()))
+                    .as("user %s", row.userId())
+                    .isEqualTo(rebuilt.countByUser(row.userId()));
+        }
+    }
+
+    // 지워진 예매의 사용자/날짜도 0으로 맞는지 보도록 지금까지 나온 모든 사용자와 날짜를 검사
+    private List<Row> allKeys() {
+        List<Row> keys = new ArrayList<>(table.values());
+        for (long userId = 0; userId < 10; userId++) {
+            for (int day = 0; day < 7; day++) {
+                keys.add(new Row(userId, BASE.plusDays(day), ReservationStatus.PENDING));
+            }
+        }
+        return keys;
+    }
+
+    private List<Object[]> groupByUserDayAndStatus() {
+        Map<List<Object>, Long> groups = new HashMap<>();
+        table.values().forEach(row ->
+                groups.merge(List.of(row.userId(), row.date().toLocalDate(), row.status()), 1L, Long::sum));
+        List<Object[]> rows = new ArrayList<>();
+        groups.forEach((key, count) -> rows.add(new Object[]{key.get(0), key.get(1), key.get(2), count}));
+        return rows;
+    }
+
+    private record Row(Long userId, LocalDateTime date, ReservationStatus status) {
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.demo.config.ReservationProperties;
+import com.example.demo.dto.ViewingReservationDto.ViewingReservationResponseDto;
+import com.example.demo.entity.User;
+import com.example.demo.entity.ViewingReservation;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.NotFoundException;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.ViewingReservationRepository;
+
+class ReservationWriteBehindQueueTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    private final Map<Long, User> users = Map.of(
+            1L, User.builder().id(1L).username("alice").build(),
+            2L, User.builder().id(2L).username("bob").build());
+
+    private ViewingReservationRepository viewingReservationRepository;
+    private SlotCapacityLedger slotCapacityLedger;
+    private ReservationStatistics reservationStatistics;
+    private ReservationWriteBehindQueue queue;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        viewingReservationRepository = mock(ViewingReservationRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        slotCapacityLedger = mock(SlotCapacityLedger.class);
+        reservationStatistics = mock(ReservationStatistics.class);
+
+        when(userRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<User> found = new ArrayList<>();
+            ((Iterable<Long>) invocation.getArgument(0)).forEach(id -> {
+                if (users.containsKey(id)) {
+                    found.add(users.get(id));
+                }
+            });
+            return found;
+        });
+        when(viewingReservationRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            List<ViewingReservation> saved = new ArrayList<>();
+            ((Iterable<ViewingReservation>) invocation.getArgument(0)).forEach(entity -> {
+                entity.setId(UUID.randomUUID());
+                entity.setVersion(0L);
+                saved.add(entity);
+            });
+            return saved;
+        });
+
+        ReservationProperties properties = new ReservationProperties();
+        properties.getWriteBehind().setBatchSize(2);
+        properties.getWriteBehind().setMaxLinger(Duration.ofMillis(500));
+        queue = new ReservationWriteBehindQueue(viewingReservationRepository, userRepository, slotCapacityLedger,
+                reservationStatistics, mock(PlatformTransactionManager.class), properties);
+        queue.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queue.stop();
+    }
+
+    @Test
+    void batchIsSavedOnceAndAcknowledged() throws Exception {
+        CompletableFuture<ViewingReservationResponseDto> first = queue.submit(reservation(1L, DATE));
+        CompletableFuture<ViewingReservationResponseDto> second = queue.submit(reservation(2L, DATE.plusHours(1)));
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getUsername()).isEqualTo("alice");
+        assertThat(second.get(5, TimeUnit.SECONDS).getUsername()).isEqualTo("bob");
+        verify(viewingReservationRepository, times(1)).saveAll(anyIterable());
+        verify(reservationStatistics, times(2)).recordChange(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void failureAfterCommitDoesNotRewriteOrReleaseCommittedRows() throws Exception {
+        doThrow(new IllegalStateException("statistics unavailable"))
+                .when(reservationStatistics).recordChange(any(), any(), any(), any(), any());
+
+        CompletableFuture<ViewingReservationResponseDto> first = queue.submit(reservation(1L, DATE));
+        CompletableFuture<ViewingReservationResponseDto> second = queue.submit(reservation(2L, DATE.plusHours(1)));
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThat(second.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        verify(viewingReservationRepository, times(1)).saveAll(anyIterable());
+        verify(slotCapacityLedger, never()).release(any());
+    }
+
+    @Test
+    void missingUserIsRejectedWithoutBreakingTheBatch() throws Exception {
+        LocalDateTime missingUserDate = DATE.plusHours(2);
+        CompletableFuture<ViewingReservationResponseDto> good = queue.submit(reservation(1L, DATE));
+        CompletableFuture<ViewingReservationResponseDto> bad = queue.submit(reservation(99L, missingUserDate));
+
+        assertThat(good.get(5, TimeUnit.SECONDS).getUsername()).isEqualTo("alice");
+        assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOfSatisfying(NotFoundException.class,
+                        notFound -> assertThat(notFound.getErrorCode()).isEqualTo(ErrorCode.USER_NOT_FOUND));
+        verify(viewingReservationRepository, times(1)).saveAll(anyIterable());
+        verify(slotCapacityLedger, times(1)).release(missingUserDate);
+        verify(slotCapacityLedger, never()).release(DATE);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failedBatchIsRetriedRowByRowAndReleasesOnlyTheFailedSlot() throws Exception {
+        LocalDateTime conflictDate = DATE.plusHours(3);
+        when(viewingReservationRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            List<ViewingReservation> saved = new ArrayList<>();
+            for (ViewingReservation entity : (Iterable<ViewingReservation>) invocation.getArgument(0)) {
+                if (entity.getReservationDate().equals(conflictDate)) {
+                    throw new IllegalStateException("duplicate key");
+                }
+                entity.setId(UUID.randomUUID());
+                entity.setVersion(0L);
+                saved.add(entity);
+            }
+            return saved;
+        });
+
+        CompletableFuture<ViewingReservationResponseDto> good = queue.submit(reservation(1L, DATE));
+        CompletableFuture<ViewingReservationResponseDto> bad = queue.submit(reservation(2L, conflictDate));
+
+        assertThat(good.get(5, TimeUnit.SECONDS).getUsername()).isEqualTo("alice");
+        assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(viewingReservationRepository, times(3)).saveAll(anyIterable());
+        verify(slotCapacityLedger, times(1)).release(conflictDate);
+        verify(slotCapacityLedger, never()).release(DATE);
+    }
+
+    private static ViewingReservation reservation(Long userId, LocalDateTime reservationDate) {
+        return ViewingReservation.builder()
+                .user(User.builder().id(userId).build())
+                .reservationDate(reservationDate)
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.config.ETagProperties;
+
+class ResourceETagCacheTest {
+
+    private ResourceETagCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ResourceETagCache(new ETagProperties());
+    }
+
+    @Test
+    void loadThatStartedBeforeInvalidationCannotCacheItsTag() {
+        Object key = ResourceETagCache.userKey(1L);
+        long staleLoad = cache.currentGeneration();
+
+        cache.evictUserAfterCommit(1L, "alice", "alice"); // 트랜잭션 밖이면 바로 무효화
+        cache.put(key, "\"old\"", staleLoad);
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.invalidatedSince(key, staleLoad)).isTrue();
+    }
+
+    @Test
+    void loadThatStartedAfterInvalidationIsCached() {
+        Object key = ResourceETagCache.userKey(1L);
+        cache.evictUserAfterCommit(1L, "alice", "alice");
+
+        long freshLoad = cache.currentGeneration();
+        cache.put(key, "\"new\"", freshLoad);
+
+        assertThat(cache.get(key)).isEqualTo("\"new\"");
+        assertThat(cache.invalidatedSince(key, freshLoad)).isFalse();
+    }
+
+    @Test
+    void freshTagDoesNotLetAnOlderLoadOverwriteIt() {
+        Object key = ResourceETagCache.userKey(1L);
+        long staleLoad = cache.currentGeneration();
+        cache.evictUserAfterCommit(1L, "alice", "alice");
+        cache.put(key, "\"new\"", cache.currentGeneration());
+
+        cache.put(key, "\"old\"", staleLoad);
+
+        assertThat(cache.get(key)).isEqualTo("\"new\"");
+    }
+
+    @Test
+    void bulkInvalidationBlocksOlderLoads() {
+        Object reservation = ResourceETagCache.reservationKey(UUID.randomUUID());
+        Object user = ResourceETagCache.userKey(2L);
+        long staleLoad = cache.currentGeneration();
+
+        cache.evictUserAfterCommit(1L, "alice", "alice2"); // 사용자명 변경: 예매 ETag 전체 무효화
+        cache.put(reservation, "\"r-old\"", staleLoad);
+        cache.put(user, "\"u2\"", staleLoad);
+
+        assertThat(cache.get(reservation)).isNull();
+        assertThat(cache.get(user)).isEqualTo("\"u2\"");
+
+        cache.evictAllAfterCommit();
+        cache.put(user, "\"u2-old\"", staleLoad);
+        assertThat(cache.get(user)).isNull();
+    }
+
+    @Test
+    void reservationEvictionIsPerKey() {
+        UUID changed = UUID.randomUUID();
+        UUID untouched = UUID.randomUUID();
+        long load = cache.currentGeneration();
+
+        cache.evictReservationsAfterCommit(List.of(changed));
+        cache.put(ResourceETagCache.reservationKey(changed), "\"r1\"", load);
+        cache.put(ResourceETagCache.reservationKey(untouched), "\"r2\"", load);
+
+        assertThat(cache.get(ResourceETagCache.reservationKey(changed))).isNull();
+        assertThat(cache.get(ResourceETagCache.reservationKey(untouched))).isEqualTo("\"r2\"");
+    }
+}
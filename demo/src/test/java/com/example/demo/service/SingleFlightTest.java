@@ -0,0 +1,147 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.config.ETagProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private ResourceETagCache etagCache;
+    private SingleFlight<Long, StringBuilder> flight;
+    private SimpleMeterRegistry registry;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        etagCache = new ResourceETagCache(new ETagProperties());
+        registry = new SimpleMeterRegistry();
+        flight = new SingleFlight<>("test.lookup", "id", registry, etagCache::currentGeneration,
+                (id, since) -> etagCache.invalidatedSince(ResourceETagCache.userKey(id), since),
+                StringBuilder::new);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoadButNotTheInstance() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<StringBuilder> leader = CompletableFuture.supplyAsync(() ->
+                flight.execute(1L, blockingLoad("v1", started, release)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<StringBuilder> follower = CompletableFuture.supplyAsync(() ->
+                flight.execute(1L, load("unused")));
+        awaitFollowers(1);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).hasToString("v1");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).hasToString("v1").isNotSameAs(leader.join());
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void callerAfterInvalidationDoesNotJoinOlderLoad() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<StringBuilder> stale = CompletableFuture.supplyAsync(() ->
+                flight.execute(1L, blockingLoad("old", started, release)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        etagCache.evictUserAfterCommit(1L, "alice", "alice"); // 트랜잭션 밖이면 바로 무효화
+        StringBuilder fresh = flight.execute(1L, load("new"));
+        release.countDown();
+
+        assertThat(fresh).hasToString("new");
+        assertThat(stale.get(5, TimeUnit.SECONDS)).hasToString("old");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void otherKeysInvalidationDoesNotBlockJoining() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<StringBuilder> leader = CompletableFuture.supplyAsync(() ->
+                flight.execute(1L, blockingLoad("v1", started, release)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        etagCache.evictUserAfterCommit(2L, "bob", "bob");
+        CompletableFuture<StringBuilder> follower = CompletableFuture.supplyAsync(() ->
+                flight.execute(1L, load("unused")));
+        awaitFollowers(1);
+        release.countDown();
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).hasToString("v1");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).hasToString("v1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void failureReachesFollowersAndReleasesKey() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<StringBuilder> leader = CompletableFuture.supplyAsync(() ->
+                flight.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    started.countDown();
+                    awaitQuietly(release);
+                    throw new IllegalStateException("db down");
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<StringBuilder> follower = CompletableFuture.supplyAsync(() ->
+                flight.execute(1L, load("unused")));
+        awaitFollowers(1);
+        release.countDown();
+
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(flight.execute(1L, load("retry"))).hasToString("retry");
+        assertThat(loads).hasValue(2);
+    }
+
+    private Supplier<StringBuilder> load(String value) {
+        return () -> {
+            loads.incrementAndGet();
+            return new StringBuilder(value);
+        };
+    }
+
+    private Supplier<StringBuilder> blockingLoad(String value, CountDownLatch started, CountDownLatch release) {
+        return () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            awaitQuietly(release);
+            return new StringBuilder(value);
+        };
+    }
+
+    // follower가 진행 중인 조회에 합류(카운터 증가)할 때까지 대기
+    private void awaitFollowers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.counter("test.lookup.singleflight.calls", "lookup", "id", "role", "follower").count() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.config.ReservationProperties;
+import com.example.demo.dto.ViewingReservationDto.DayAvailabilityDto;
+
+class SlotAvailabilityIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 1);
+
+    @Test
+    void fullSlotsAtDayBoundaryStayOnTheirOwnDay() {
+        SlotAvailabilityIndex index = index(Duration.ofMinutes(30));
+        index.setFull(DAY.atTime(23, 30), true);
+        index.setFull(DAY.plusDays(1).atStartOfDay(), true);
+
+        List<DayAvailabilityDto> days = index.findFreeSlots(DAY, DAY.plusDays(1), null, null);
+
+        assertThat(days).hasSize(2);
+        assertThat(days.get(0).getFreeSlots()).hasSize(47).startsWith(LocalTime.MIDNIGHT).endsWith(LocalTime.of(23, 0));
+        assertThat(days.get(1).getFreeSlots()).hasSize(47).startsWith(LocalTime.of(0, 30)).endsWith(LocalTime.of(23, 30));
+    }
+
+    @Test
+    void freedSlotBecomesAvailableAgain() {
+        SlotAvailabilityIndex index = index(Duration.ofMinutes(30));
+        LocalDateTime slot = DAY.atTime(10, 0);
+
+        index.setFull(slot, true);
+        assertThat(freeSlots(index, LocalTime.of(10, 0), LocalTime.of(11, 0))).containsExactly(LocalTime.of(10, 30));
+
+        index.setFull(slot, false);
+        assertThat(freeSlots(index, LocalTime.of(10, 0), LocalTime.of(11, 0)))
+                .containsExactly(LocalTime.of(10, 0), LocalTime.of(10, 30));
+
+        // 마지막 마감이 풀려 비트맵이 지워진 날에 다시 마감
+        index.setFull(slot, true);
+        assertThat(freeSlots(index, LocalTime.of(10, 0), LocalTime.of(11, 0))).containsExactly(LocalTime.of(10, 30));
+    }
+
+    @Test
+    void freeingAnUntrackedSlotIsANoOp() {
+        SlotAvailabilityIndex index = index(Duration.ofMinutes(30));
+
+        index.setFull(DAY.atTime(10, 0), false);
+
+        assertThat(index.findFreeSlots(DAY, DAY, null, null).get(0).getFreeSlots()).hasSize(48);
+    }
+
+    @Test
+    void allSlotsFullLeavesNothingFree() {
+        SlotAvailabilityIndex index = index(Duration.ofMinutes(30));
+        for (LocalDateTime slot = DAY.atStartOfDay(); slot.toLocalDate().equals(DAY); slot = slot.plusMinutes(30)) {
+            index.setFull(slot, true);
+        }
+
+        assertThat(index.findFreeSlots(DAY, DAY, null, null).get(0).getFreeSlots()).isEmpty();
+    }
+
+    @Test
+    void windowBoundsAreStartInclusiveEndExclusive() {
+        SlotAvailabilityIndex index = index(Duration.ofMinutes(30));
+
+        assertThat(freeSlots(index, LocalTime.of(10, 0), LocalTime.of(11, 0)))
+                .containsExactly(LocalTime.of(10, 0), LocalTime.of(10, 30));
+        // 시간대 중간에서 시작하면 다음 시간대부터, 끝이 시간대 중간이면 그 시간대까지
+        assertThat(freeSlots(index, LocalTime.of(10, 15), LocalTime.of(11, 15)))
+                .containsExactly(LocalTime.of(10, 30), LocalTime.of(11, 0));
+        assertThat(freeSlots(index, LocalTime.of(10, 30, 1), LocalTime.of(11, 0))).isEmpty();
+        assertThat(freeSlots(index, LocalTime.of(10, 0), LocalTime.of(10, 0, 0, 1))).containsExactly(LocalTime.of(10, 0));
+        assertThat(freeSlots(index, LocalTime.of(23, 0), LocalTime.MAX))
+                .containsExactly(LocalTime.of(23, 0), LocalTime.of(23, 30));
+    }
+
+    @Test
+    void windowSpanningWordBoundaryMasksBothWords() {
+        // 10분 단위 = 하루 144칸 = long 3개, 64번째 시간대는 10:40
+        SlotAvailabilityIndex index = index(Duration.ofMinutes(10));
+        index.setFull(DAY.atTime(10, 30), true);
+        index.setFull(DAY.atTime(10, 40), true);
+
+        assertThat(freeSlots(index, LocalTime.of(10, 0), LocalTime.of(11, 0)))
+                .containsExactly(LocalTime.of(10, 0), LocalTime.of(10, 10), LocalTime.of(10, 20), LocalTime.of(10, 50));
+        assertThat(freeSlots(index, LocalTime.of(23, 30), null))
+                .containsExactly(LocalTime.of(23, 30), LocalTime.of(23, 40), LocalTime.of(23, 50));
+    }
+
+    @Test
+    void windowEndingBeforeItStartsWrapsPastMidnight() {
+        SlotAvailabilityIndex index = index(Duration.ofMinutes(30));
+        index.setFull(DAY.atTime(23, 0), true);
+
+        assertThat(freeSlots(index, LocalTime.of(22, 0), LocalTime.of(1, 0)))
+                .containsExactly(LocalTime.of(0, 0), LocalTime.of(0, 30),
+                        LocalTime.of(22, 0), LocalTime.of(22, 30), LocalTime.of(23, 30));
+    }
+
+    @Test
+    void slotsThatDoNotDivideTheDayStopAtMidnight() {
+        // 7분 단위 = 205칸 + 마지막 짧은 칸(23:55)
+        SlotAvailabilityIndex index = index(Duration.ofMinutes(7));
+
+        assertThat(freeSlots(index, LocalTime.of(23, 50), null)).containsExactly(LocalTime.of(23, 55));
+        assertThat(index.findFreeSlots(DAY, DAY, null, null).get(0).getFreeSlots()).hasSize(206);
+    }
+
+    private static List<LocalTime> freeSlots(SlotAvailabilityIndex index, LocalTime fromTime, LocalTime toTime) {
+        return index.findFreeSlots(DAY, DAY, fromTime, toTime).get(0).getFreeSlots();
+    }
+
+    private static SlotAvailabilityIndex index(Duration slotLength) {
+        ReservationProperties properties = new ReservationProperties();
+        properties.setSlotLength(slotLength);
+        return new SlotAvailabilityIndex(properties);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.config.ReservationProperties;
+import com.example.demo.entity.ViewingReservation.ReservationStatus;
+import com.example.demo.repository.ViewingReservationRepository;
+
+class SlotCapacityLedgerTest {
+
+    private static final int CAPACITY = 5;
+    private static final LocalDateTime SLOT = LocalDate.now().plusDays(1).atTime(10, 0);
+
+    private ViewingReservationRepository viewingReservationRepository;
+    private SlotAvailabilityIndex availabilityIndex;
+    private SlotCapacityLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        viewingReservationRepository = mock(ViewingReservationRepository.class);
+        availabilityIndex = mock(SlotAvailabilityIndex.class);
+        ReservationProperties properties = new ReservationProperties();
+        properties.setSlotCapacity(CAPACITY);
+        ledger = new SlotCapacityLedger(viewingReservationRepository, availabilityIndex, properties);
+    }
+
+    @Test
+    void reconcileLoadsCountsFromDatabase() {
+        dbCount(SLOT.plusMinutes(10), 3);
+        ledger.reconcile();
+
+        assertThat(ledger.occupancy(SLOT)).isEqualTo(3);
+        assertThat(ledger.tryAcquire(SLOT)).isTrue();
+        assertThat(ledger.tryAcquire(SLOT)).isTrue();
+        assertThat(ledger.tryAcquire(SLOT)).isFalse();
+        verify(availabilityIndex).setFull(SLOT, true);
+    }
+
+    @Test
+    void acquireBeforeReconcileWaitsAndIsNotLost() throws Exception {
+        dbCount(SLOT, 2);
+
+        CompletableFuture<Boolean> early = CompletableFuture.supplyAsync(() -> ledger.tryAcquire(SLOT));
+        assertThat(isStillRunning(early)).isTrue();
+
+        ledger.reconcile();
+
+        assertThat(early.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ledger.occupancy(SLOT)).isEqualTo(3);
+    }
+
+    @Test
+    void concurrentAcquiresNeverExceedCapacity() throws Exception {
+        dbCount(SLOT, 0);
+        ledger.reconcile();
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < threads * 10; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return ledger.tryAcquire(SLOT);
+            }));
+        }
+        start.countDown();
+        int accepted = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(5, TimeUnit.SECONDS)) {
+                accepted++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(accepted).isEqualTo(CAPACITY);
+        assertThat(ledger.occupancy(SLOT)).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void releaseAtCapacityReopensSlot() {
+        dbCount(SLOT, CAPACITY);
+        ledger.reconcile();
+        assertThat(ledger.tryAcquire(SLOT)).isFalse();
+
+        ledger.release(SLOT);
+
+        assertThat(ledger.occupancy(SLOT)).isEqualTo(CAPACITY - 1);
+        verify(availabilityIndex).setFull(SLOT, false);
+        assertThat(ledger.tryAcquire(SLOT)).isTrue();
+    }
+
+    @Test
+    void releaseNeverGoesBelowZero() {
+        dbCount(SLOT, 1);
+        ledger.reconcile();
+
+        ledger.release(SLOT);
+        ledger.release(SLOT);
+
+        assertThat(ledger.occupancy(SLOT)).isZero();
+    }
+
+    private void dbCount(LocalDateTime reservationDate, long count) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{reservationDate, count});
+        when(viewingReservationRepository.countByReservationDateFrom(any(), eq(ReservationStatus.CANCELLED)))
+                .thenReturn(rows);
+    }
+
+    private static boolean isStillRunning(CompletableFuture<?> future) throws Exception {
+        try {
+            future.get(200, TimeUnit.MILLISECONDS);
+            return false;
+        } catch (TimeoutException e) {
+            return true;
+        }
+    }
+}